@@ -24,5 +24,6 @@ public enum MapImplementation {
 	Alberi23,
 	BTree,
 	HashConcatenamento,
-	HashIndirizzamentoAperto
+	HashIndirizzamentoAperto,
+	SwissTable
 }
\ No newline at end of file
@@ -22,5 +22,7 @@ public enum SortingAlgorithm {
 	BubbleSort,
 	MergeSort,
 	QuickSort,
-	HeapSort
+	HeapSort,
+	TimSort,
+	RadixSort
 }
@@ -37,6 +37,7 @@ import movida.dicarlosegantini.set.HashSet;
 
 import java.util.LinkedList;
 import java.util.PriorityQueue;
+import java.util.function.Consumer;
 
 public final class MovidaCollaborations implements IMovidaCollaborations {
     private final HashSet<Collaboration> collaborations;
@@ -59,24 +60,27 @@ public final class MovidaCollaborations implements IMovidaCollaborations {
         final var collaboration = this.collaborations.get(new Collaboration(actorA, actorB));
         assert null != collaboration;
 
+        // The actors stay collaborators while they star together in another movie.
+        collaboration.removeMovie(movie);
+        if (0 < collaboration.countMovies()) {
+            return;
+        }
+
+        this.collaborations.remove(collaboration);
+
         final var actorACollaborators = this.graph.get(collaboration.getActorA());
         assert null != actorACollaborators;
-        actorACollaborators.remove(actorB);
+        actorACollaborators.remove(collaboration.getActorB());
         if (actorACollaborators.isEmpty()) {
             this.graph.remove(collaboration.getActorA());
         }
 
         final var actorBCollaborators = this.graph.get(collaboration.getActorB());
         assert null != actorBCollaborators;
-        actorBCollaborators.remove(actorA);
+        actorBCollaborators.remove(collaboration.getActorA());
         if (actorBCollaborators.isEmpty()) {
             this.graph.remove(collaboration.getActorB());
         }
-
-        collaboration.removeMovie(movie);
-        if (0 == collaboration.countMovies()) {
-            this.collaborations.remove(collaboration);
-        }
     }
 
     public void clear() {
@@ -90,6 +94,14 @@ public final class MovidaCollaborations implements IMovidaCollaborations {
         return (null != collaborators) ? collaborators.stream().toArray(Person[]::new) : new Person[0];
     }
 
+    // Visits the collaborators in the graph, without copying them in an array.
+    private void forEachCollaboratorOf(final Person actor, final Consumer<Person> action) {
+        final var collaborators = this.graph.get(actor);
+        if (null != collaborators) {
+            collaborators.forEach(action);
+        }
+    }
+
     /*
      * Adapted version of BFS
      *
@@ -108,15 +120,15 @@ public final class MovidaCollaborations implements IMovidaCollaborations {
         while (!actorsToVisit.isEmpty()) {
             final var currentActor = actorsToVisit.removeFirst();
 
-            for (final var collaborator : this.getDirectCollaboratorsOf(currentActor)) {
+            this.forEachCollaboratorOf(currentActor, collaborator -> {
                 if (markedActors.add(collaborator)) {
                     actorsToVisit.addLast(collaborator);
                     team.append(collaborator);
                 }
-            }
+            });
         }
 
-        return team.stream().toArray(Person[]::new);
+        return team.slice(Person[]::new, 0, team.size());
     }
 
     /*
@@ -137,7 +149,7 @@ public final class MovidaCollaborations implements IMovidaCollaborations {
         while (!q.isEmpty()) {
             final var currentActor = q.remove().key;
 
-            for (final var colleague : this.getDirectCollaboratorsOf(currentActor)) {
+            this.forEachCollaboratorOf(currentActor, colleague -> {
                 final var colleagueScore = actorsBestScore.get(colleague);
                 final var collaboration = this.collaborations.get(new Collaboration(currentActor, colleague));
                 assert null != collaboration;
@@ -156,7 +168,7 @@ public final class MovidaCollaborations implements IMovidaCollaborations {
                     actorsBestScore.add(colleague, collaboration.getScore());
                     bestCollaborations.add(collaboration);
                 }
-            }
+            });
         }
 
         return bestCollaborations.stream().toArray(Collaboration[]::new);
@@ -28,16 +28,40 @@
 package movida.dicarlosegantini;
 
 import movida.commons.*;
+import movida.dicarlosegantini.array.BinarySearch;
 import movida.dicarlosegantini.array.DynamicArray;
+import movida.dicarlosegantini.array.IArray;
+import movida.dicarlosegantini.array.TieredArray;
+import movida.dicarlosegantini.map.ABR;
+import movida.dicarlosegantini.map.AVL;
+import movida.dicarlosegantini.map.Alberi23;
 import movida.dicarlosegantini.map.ArrayOrdinato;
+import movida.dicarlosegantini.map.BTree;
+import movida.dicarlosegantini.map.DenseIntMap;
+import movida.dicarlosegantini.map.HashConcatenamento;
 import movida.dicarlosegantini.map.HashIndirizzamentoAperto;
 import movida.dicarlosegantini.map.IMap;
+import movida.dicarlosegantini.map.ListaNonOrdinata;
+import movida.dicarlosegantini.map.SwissTable;
+import movida.dicarlosegantini.sort.HeapSort;
+import movida.dicarlosegantini.sort.IKeySort;
+import movida.dicarlosegantini.sort.BoundedHeap;
 import movida.dicarlosegantini.sort.ISort;
+import movida.dicarlosegantini.sort.InsertionSort;
+import movida.dicarlosegantini.sort.MergeSort;
+import movida.dicarlosegantini.sort.PartialSort;
 import movida.dicarlosegantini.sort.QuickSort;
+import movida.dicarlosegantini.sort.RadixSort;
 import movida.dicarlosegantini.sort.SelectionSort;
+import movida.dicarlosegantini.sort.TimSort;
 
 import java.io.File;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
 import java.util.stream.Stream;
 
 public final class MovidaCore implements IMovidaConfig, IMovidaDB, IMovidaSearch, IMovidaCollaborations {
@@ -46,41 +70,53 @@ public final class MovidaCore implements IMovidaConfig, IMovidaDB, IMovidaSearch
             Comparator.comparing(Movie::getVotes).reversed().thenComparing(orderByTitle);
     private static final Comparator<Movie> orderByYear =
             Comparator.comparing(Movie::getYear).reversed().thenComparing(orderByTitle);
+    // Key for the ordering above, complemented because it's descending.
+    private static final ToIntFunction<Movie> yearKey = m -> ~m.getYear();
+    private static final Comparator<Entry<ActivityKey, Person>> orderByActivity = (x, y) -> x.key.compareTo(y.key);
 
     private final MovidaPersistence persistence;
     private final MovidaCollaborations collaborations;
 
-    private final DynamicArray<Person> actorsOrderedByActivity;
-    private final DynamicArray<Movie> moviesOrderedByVotes;
-    private final DynamicArray<Movie> moviesOrderedByYear;
+    private final IArray<Movie> moviesOrderedByYear;
     private IMap<String, DynamicArray<Movie>> moviesByDirector;
     private IMap<String, DynamicArray<Movie>> moviesByActor;
-    private IMap<Integer, DynamicArray<Movie>> moviesByYear;
+    private final DenseIntMap<DynamicArray<Movie>> moviesByYear;
     private IMap<String, Person> directors;
     private IMap<String, Person> actors;
     private IMap<String, Movie> movies;
 
+    // Results of the searchMost queries for the biggest N requested so far, null when they must be recomputed.
+    private Movie[] mostVotedMovies;
+    // The actors are kept with the key they are ranked by, so an update compares the stored keys.
+    private Entry<ActivityKey, Person>[] mostActiveActors;
+
     private ISort sortingAlgorithm;
     private MapImplementation mapImplementation;
+    private int parallelism;
+    // Threads used by finalizeLoad, null when parallelism is 1.
+    private ForkJoinPool pool;
 
     public MovidaCore() {
         this.persistence = new MovidaPersistence();
         this.collaborations = new MovidaCollaborations();
 
-        this.actorsOrderedByActivity = new DynamicArray<>();
-        this.moviesOrderedByVotes = new DynamicArray<>();
-        this.moviesOrderedByYear = new DynamicArray<>();
+        this.moviesOrderedByYear = new TieredArray<>();
 
         this.moviesByDirector = new HashIndirizzamentoAperto<>();
         this.moviesByActor = new HashIndirizzamentoAperto<>();
-        this.moviesByYear = new HashIndirizzamentoAperto<>();
+        this.moviesByYear = new DenseIntMap<>();
 
         this.directors = new HashIndirizzamentoAperto<>();
         this.actors = new HashIndirizzamentoAperto<>();
         this.movies = new HashIndirizzamentoAperto<>();
 
+        this.mostVotedMovies = null;
+        this.mostActiveActors = null;
+
         this.mapImplementation = MapImplementation.HashIndirizzamentoAperto;
         this.sortingAlgorithm = QuickSort.getInstance();
+        this.parallelism = 1;
+        this.pool = null;
     }
 
     static private ISort instanceSortingAlgorithm(final SortingAlgorithm sortingAlgorithm) {
@@ -90,6 +126,21 @@ public final class MovidaCore implements IMovidaConfig, IMovidaDB, IMovidaSearch
 
             case QuickSort:
                 return QuickSort.getInstance();
+
+            case MergeSort:
+                return MergeSort.getInstance();
+
+            case HeapSort:
+                return HeapSort.getInstance();
+
+            case TimSort:
+                return TimSort.getInstance();
+
+            case RadixSort:
+                return RadixSort.getInstance();
+
+            case InsertionSort:
+                return InsertionSort.getBinaryInstance();
         }
 
         return null;
@@ -131,12 +182,11 @@ public final class MovidaCore implements IMovidaConfig, IMovidaDB, IMovidaSearch
     protected void load(final Movie movie) {
         final var directorName = movie.getDirector().getName().toLowerCase();
 
-        this.moviesOrderedByVotes.append(movie);
         this.moviesOrderedByYear.append(movie);
         this.moviesByDirector.getOrAdd(directorName, DynamicArray::new).append(movie);
         this.moviesByYear.getOrAdd(movie.getYear(), DynamicArray::new).append(movie);
 
-        final var cast = movie.getCast();
+        final var cast = distinctCast(movie);
         for (int x = 0; cast.length > x; ++x) {
             final var actor = cast[x];
             final var actorName = actor.getName().toLowerCase();
@@ -153,47 +203,115 @@ public final class MovidaCore implements IMovidaConfig, IMovidaDB, IMovidaSearch
         this.movies.add(movie.getTitle().toLowerCase(), movie);
     }
 
-    private void recomputeActivities() {
-        this.actorsOrderedByActivity.clear();
-        this.streamActors().forEach(this.actorsOrderedByActivity::append);
-        this.actorsOrderedByActivity.sort(this.sortingAlgorithm, (x, y) -> {
-            final var xName = x.getName().toLowerCase();
-            final var yName = y.getName().toLowerCase();
-            final Integer xActivity = this.moviesByActor.get(xName).size();
-            final Integer yActivity = this.moviesByActor.get(yName).size();
-            final var cmp = -(xActivity.compareTo(yActivity));
-            return (0 == cmp) ? xName.compareTo(yName) : cmp;
-        });
+    // The cast of the movie without the repeated actors, an actor listed twice still stars in it once.
+    private static Person[] distinctCast(final Movie movie) {
+        final var cast = movie.getCast();
+        final var distinct = new Person[cast.length];
+        // The lower case names of the distinct actors, each name is lowered once.
+        final var distinctNames = new String[cast.length];
+        var length = 0;
+
+        for (final var actor : cast) {
+            final var actorName = actor.getName().toLowerCase();
+
+            var repeated = false;
+            for (int i = 0; !repeated && length > i; ++i) {
+                repeated = distinctNames[i].equals(actorName);
+            }
+
+            if (!repeated) {
+                distinct[length] = actor;
+                distinctNames[length] = actorName;
+                length += 1;
+            }
+        }
+
+        return (cast.length == length) ? cast : Arrays.copyOf(distinct, length);
+    }
+
+    /*
+     * Sorts by key when the sorting algorithm supports it, otherwise by comparator.
+     * Both must give the same order: comparator orders by key, then by tieBreak.
+     */
+    private <T> void sortByKey(final IArray<T> array, final ToIntFunction<T> key, final Comparator<T> tieBreak,
+                               final Comparator<T> comparator) {
+        if (this.sortingAlgorithm instanceof IKeySort) {
+            array.sortByKey((IKeySort) this.sortingAlgorithm, key, tieBreak);
+        } else {
+            array.sort(this.sortingAlgorithm, comparator);
+        }
+    }
+
+    // rankings must be invalidated after any update to movies or actors maps
+    private void invalidateRankings() {
+        this.mostVotedMovies = null;
+        this.mostActiveActors = null;
     }
 
     protected void finalizeLoad() {
-        this.moviesOrderedByVotes.sort(this.sortingAlgorithm, orderByVotes);
-        this.moviesOrderedByYear.sort(this.sortingAlgorithm, orderByYear);
+        if (1 == this.parallelism) {
+            this.sortByKey(this.moviesOrderedByYear, yearKey, orderByTitle, orderByYear);
+
+            this.moviesByDirector.forEachValue(m -> m.sort(this.sortingAlgorithm, orderByTitle));
+            this.moviesByActor.forEachValue(m -> m.sort(this.sortingAlgorithm, orderByTitle));
+            this.moviesByYear.forEachValue(m -> m.sort(this.sortingAlgorithm, orderByTitle));
+        } else {
+            final var lists = new DynamicArray<DynamicArray<Movie>>();
+            lists.reserve(this.moviesByDirector.size() + this.moviesByActor.size() + this.moviesByYear.size());
+            this.moviesByDirector.forEachValue(lists::append);
+            this.moviesByActor.forEachValue(lists::append);
+            this.moviesByYear.forEachValue(lists::append);
+
+            // The global ordering runs concurrently with the sorts of the lists.
+            final var byYear = this.pool.submit(
+                    () -> this.sortByKey(this.moviesOrderedByYear, yearKey, orderByTitle, orderByYear));
+            this.pool.invoke(new SortListsTask(lists, 0, lists.size(), this.sortingAlgorithm));
+            byYear.join();
+        }
 
-        this.moviesByDirector.values().forEach(m -> m.sort(this.sortingAlgorithm, orderByTitle));
-        this.moviesByActor.values().forEach(m -> m.sort(this.sortingAlgorithm, orderByTitle));
-        this.moviesByYear.values().forEach(m -> m.sort(this.sortingAlgorithm, orderByTitle));
+        freeze(this.moviesByDirector);
+        freeze(this.moviesByActor);
+        freeze(this.directors);
+        freeze(this.actors);
+        freeze(this.movies);
 
-        // activities must be recomputed after any update to actors map
-        this.recomputeActivities();
+        this.invalidateRankings();
     }
 
-    @Override
-    public boolean setSort(final SortingAlgorithm sortingAlgorithm) {
-        if (instanceSortingAlgorithm(sortingAlgorithm) != this.sortingAlgorithm) {
-            switch (sortingAlgorithm) {
-                case SelectionSort:
-                    this.sortingAlgorithm = SelectionSort.getInstance();
-                    break;
+    // Maps backed by sorted arrays are searched faster when frozen, until their keys change.
+    private static void freeze(final IMap<?, ?> map) {
+        if (map instanceof ArrayOrdinato) {
+            ((ArrayOrdinato<?, ?>) map).freeze();
+        }
+    }
 
-                case QuickSort:
-                    this.sortingAlgorithm = QuickSort.getInstance();
-                    break;
+    /**
+     * Sets the number of threads used by finalizeLoad to sort the indexes, 1 sorts them in the calling thread.
+     *
+     * @param parallelism The number of threads, greater than 0.
+     */
+    public void setParallelism(final int parallelism) {
+        assert 0 < parallelism;
 
-                default:
-                    return false;
-            }
+        if (parallelism == this.parallelism) {
+            return;
+        }
+
+        // The pool is kept across loads, it's replaced only when the number of threads changes.
+        if (null != this.pool) {
+            this.pool.shutdown();
+        }
+
+        this.parallelism = parallelism;
+        this.pool = (1 < parallelism) ? new ForkJoinPool(parallelism) : null;
+    }
+
+    @Override
+    public boolean setSort(final SortingAlgorithm sortingAlgorithm) {
+        final var newSortingAlgorithm = instanceSortingAlgorithm(sortingAlgorithm);
 
+        if (null != newSortingAlgorithm && newSortingAlgorithm != this.sortingAlgorithm) {
+            this.sortingAlgorithm = newSortingAlgorithm;
             return true;
         }
 
@@ -207,23 +325,84 @@ public final class MovidaCore implements IMovidaConfig, IMovidaDB, IMovidaSearch
                 case ArrayOrdinato:
                     this.moviesByDirector = ArrayOrdinato.from(this.moviesByDirector);
                     this.moviesByActor = ArrayOrdinato.from(this.moviesByActor);
-                    this.moviesByYear = ArrayOrdinato.from(this.moviesByYear);
 
                     this.directors = ArrayOrdinato.from(this.directors);
                     this.actors = ArrayOrdinato.from(this.actors);
                     this.movies = ArrayOrdinato.from(this.movies);
                     break;
 
+                case ListaNonOrdinata:
+                    this.moviesByDirector = ListaNonOrdinata.from(this.moviesByDirector);
+                    this.moviesByActor = ListaNonOrdinata.from(this.moviesByActor);
+
+                    this.directors = ListaNonOrdinata.from(this.directors);
+                    this.actors = ListaNonOrdinata.from(this.actors);
+                    this.movies = ListaNonOrdinata.from(this.movies);
+                    break;
+
+                case ABR:
+                    this.moviesByDirector = ABR.from(this.moviesByDirector);
+                    this.moviesByActor = ABR.from(this.moviesByActor);
+
+                    this.directors = ABR.from(this.directors);
+                    this.actors = ABR.from(this.actors);
+                    this.movies = ABR.from(this.movies);
+                    break;
+
+                case AVL:
+                    this.moviesByDirector = AVL.from(this.moviesByDirector);
+                    this.moviesByActor = AVL.from(this.moviesByActor);
+
+                    this.directors = AVL.from(this.directors);
+                    this.actors = AVL.from(this.actors);
+                    this.movies = AVL.from(this.movies);
+                    break;
+
+                case Alberi23:
+                    this.moviesByDirector = Alberi23.from(this.moviesByDirector);
+                    this.moviesByActor = Alberi23.from(this.moviesByActor);
+
+                    this.directors = Alberi23.from(this.directors);
+                    this.actors = Alberi23.from(this.actors);
+                    this.movies = Alberi23.from(this.movies);
+                    break;
+
+                case BTree:
+                    this.moviesByDirector = BTree.from(this.moviesByDirector);
+                    this.moviesByActor = BTree.from(this.moviesByActor);
+
+                    this.directors = BTree.from(this.directors);
+                    this.actors = BTree.from(this.actors);
+                    this.movies = BTree.from(this.movies);
+                    break;
+
+                case HashConcatenamento:
+                    this.moviesByDirector = HashConcatenamento.from(this.moviesByDirector);
+                    this.moviesByActor = HashConcatenamento.from(this.moviesByActor);
+
+                    this.directors = HashConcatenamento.from(this.directors);
+                    this.actors = HashConcatenamento.from(this.actors);
+                    this.movies = HashConcatenamento.from(this.movies);
+                    break;
+
                 case HashIndirizzamentoAperto:
                     this.moviesByDirector = HashIndirizzamentoAperto.from(this.moviesByDirector);
                     this.moviesByActor = HashIndirizzamentoAperto.from(this.moviesByActor);
-                    this.moviesByYear = HashIndirizzamentoAperto.from(this.moviesByYear);
 
                     this.directors = HashIndirizzamentoAperto.from(this.directors);
                     this.actors = HashIndirizzamentoAperto.from(this.actors);
                     this.movies = HashIndirizzamentoAperto.from(this.movies);
                     break;
 
+                case SwissTable:
+                    this.moviesByDirector = SwissTable.from(this.moviesByDirector);
+                    this.moviesByActor = SwissTable.from(this.moviesByActor);
+
+                    this.directors = SwissTable.from(this.directors);
+                    this.actors = SwissTable.from(this.actors);
+                    this.movies = SwissTable.from(this.movies);
+                    break;
+
                 default:
                     return false;
             }
@@ -250,8 +429,7 @@ public final class MovidaCore implements IMovidaConfig, IMovidaDB, IMovidaSearch
     public void clear() {
         this.collaborations.clear();
 
-        this.actorsOrderedByActivity.clear();
-        this.moviesOrderedByVotes.clear();
+        this.invalidateRankings();
         this.moviesOrderedByYear.clear();
 
         this.moviesByDirector.clear();
@@ -278,11 +456,10 @@ public final class MovidaCore implements IMovidaConfig, IMovidaDB, IMovidaSearch
         final var movie = this.movies.remove(title.toLowerCase());
 
         if (null != movie) {
-            this.moviesOrderedByVotes.binaryRemove(movie, orderByVotes);
             this.deleteMovieDirectedBy(movie, movie.getDirector());
             this.deleteMovieInYear(movie, movie.getYear());
 
-            final var cast = movie.getCast();
+            final var cast = distinctCast(movie);
             for (int x = 0; cast.length > x; ++x) {
                 this.deleteMovieStarredBy(movie, cast[x]);
 
@@ -291,14 +468,128 @@ public final class MovidaCore implements IMovidaConfig, IMovidaDB, IMovidaSearch
                 }
             }
 
-            // activities must be recomputed after any update to actors map
-            this.recomputeActivities();
+            this.invalidateRankings();
             return true;
         }
 
         return false;
     }
 
+    /**
+     * Adds a movie, unless there is already one with the same title.
+     * Every index is kept sorted inserting the movie in its place, so nothing is sorted again as in loadFromFile.
+     * <p>
+     * <pre>
+     * Time complexity: O(c^2 + c*(log(n) + s) + k) where c is the size of the cast, s the cost of shifting the items
+     *                  of an index to make room for the movie and k the length of the cached rankings.
+     * </pre>
+     * <p>
+     *
+     * @param movie The movie to add.
+     * @return true if the movie is added, false if there is already a movie with the same title.
+     */
+    public boolean addMovie(final Movie movie) {
+        if (this.movies.has(movie.getTitle().toLowerCase())) {
+            return false;
+        }
+
+        this.insert(movie);
+        return true;
+    }
+
+    /**
+     * Adds a movie, replacing the one with the same title if present.
+     * <p>
+     * <pre>
+     * Time complexity: O(c^2 + c*(log(n) + s) + k) as addMovie, plus the removal of the replaced movie.
+     * </pre>
+     * <p>
+     *
+     * @param movie The movie to add.
+     * @return The replaced movie, null if there was no movie with the same title.
+     */
+    public Movie upsertMovie(final Movie movie) {
+        final var oldMovie = this.getMovieByTitle(movie.getTitle());
+
+        if (null != oldMovie) {
+            this.deleteMovieByTitle(oldMovie.getTitle());
+        }
+
+        this.insert(movie);
+        return oldMovie;
+    }
+
+    /*
+     * Like load, but the movie is inserted in order in every index, and the cached rankings are updated.
+     */
+    private void insert(final Movie movie) {
+        final var directorName = movie.getDirector().getName().toLowerCase();
+
+        this.moviesOrderedByYear.binaryInsert(movie, orderByYear);
+        this.moviesByDirector.getOrAdd(directorName, DynamicArray::new).binaryInsert(movie, orderByTitle);
+        this.moviesByYear.getOrAdd(movie.getYear(), DynamicArray::new).binaryInsert(movie, orderByTitle);
+
+        final var cast = distinctCast(movie);
+        for (int x = 0; cast.length > x; ++x) {
+            final var actor = cast[x];
+            final var actorName = actor.getName().toLowerCase();
+
+            this.moviesByActor.getOrAdd(actorName, DynamicArray::new).binaryInsert(movie, orderByTitle);
+            this.actors.add(actorName, actor);
+            // Only the activity of this actor has changed, so the ranking is still sorted for the others.
+            this.promoteActor(actor, actorName);
+
+            for (int y = x + 1; cast.length > y; ++y) {
+                this.collaborations.addCollaboration(movie, actor, cast[y]);
+            }
+        }
+
+        this.directors.add(directorName, movie.getDirector());
+        this.movies.add(movie.getTitle().toLowerCase(), movie);
+
+        if (null != this.mostVotedMovies) {
+            promote(this.mostVotedMovies, this.mostVotedMovies.length, movie, orderByVotes);
+        }
+    }
+
+    /*
+     * The activity of an actor grows by one when a movie is added, so the actor can only move towards the front.
+     * Its previous key is binary searched among the stored ones to find where it was ranked.
+     */
+    private void promoteActor(final Person actor, final String actorName) {
+        if (null == this.mostActiveActors) {
+            return;
+        }
+
+        final var activity = this.moviesByActor.get(actorName).size();
+        final var index = BinarySearch.search(this.mostActiveActors,
+                new Entry<>(new ActivityKey(activity - 1, actorName), actor), orderByActivity);
+
+        promote(this.mostActiveActors, (0 <= index) ? index : this.mostActiveActors.length,
+                new Entry<>(new ActivityKey(activity, actorName), actor), orderByActivity);
+    }
+
+    /*
+     * Moves item towards the front of the ranking top, starting from index (top.length if it was not ranked).
+     * An item which was not ranked takes the place of the last one, if it comes before it.
+     */
+    private static <T> void promote(final T[] top, int index, final T item, final Comparator<T> comparator) {
+        if (top.length == index) {
+            if (0 == index || 0 <= comparator.compare(item, top[index - 1])) {
+                return;
+            }
+
+            index -= 1;
+        }
+
+        while (0 < index && 0 > comparator.compare(item, top[index - 1])) {
+            top[index] = top[index - 1];
+            index -= 1;
+        }
+
+        top[index] = item;
+    }
+
     @Override
     public Movie getMovieByTitle(final String title) {
         return this.movies.get(title.toLowerCase());
@@ -312,12 +603,24 @@ public final class MovidaCore implements IMovidaConfig, IMovidaDB, IMovidaSearch
 
     @Override
     public Movie[] getAllMovies() {
-        return this.movies.values().toArray(Movie[]::new);
+        return valuesOf(this.movies, Movie[]::new);
     }
 
     @Override
     public Person[] getAllPeople() {
-        return Stream.concat(this.streamActors(), this.streamDirectors()).toArray(Person[]::new);
+        final var people = new DynamicArray<Person>();
+        people.reserve(this.actors.size() + this.directors.size());
+        this.actors.forEachValue(people::append);
+        this.directors.forEachValue(people::append);
+        return people.slice(Person[]::new, 0, people.size());
+    }
+
+    // Copies the values of the map in an array of exactly map.size() items.
+    private static <T> T[] valuesOf(final IMap<?, T> map, final IntFunction<T[]> arrayBuilder) {
+        final var values = new DynamicArray<T>();
+        values.reserve(map.size());
+        map.forEachValue(values::append);
+        return values.slice(arrayBuilder, 0, values.size());
     }
 
     public int countDirectors() {
@@ -363,7 +666,16 @@ public final class MovidaCore implements IMovidaConfig, IMovidaDB, IMovidaSearch
 
     @Override
     public Movie[] searchMostVotedMovies(final Integer N) {
-        return this.moviesOrderedByVotes.slice(Movie[]::new, 0, Math.min(N, this.moviesOrderedByVotes.size()));
+        final var n = Math.min(N, this.movies.size());
+
+        // Only the top n movies are sorted, the selection of them is linear.
+        if (null == this.mostVotedMovies || n > this.mostVotedMovies.length) {
+            final var movies = valuesOf(this.movies, Movie[]::new);
+            PartialSort.sortTop(this.sortingAlgorithm, movies, 0, movies.length, n, orderByVotes);
+            this.mostVotedMovies = Arrays.copyOf(movies, n);
+        }
+
+        return Arrays.copyOf(this.mostVotedMovies, n);
     }
 
     @Override
@@ -373,7 +685,27 @@ public final class MovidaCore implements IMovidaConfig, IMovidaDB, IMovidaSearch
 
     @Override
     public Person[] searchMostActiveActors(final Integer N) {
-        return this.actorsOrderedByActivity.slice(Person[]::new, 0, Math.min(N, this.actorsOrderedByActivity.size()));
+        final var n = Math.min(N, this.actors.size());
+
+        // Only the top n actors are kept while scanning all of them, the activity of each one is computed once.
+        if (null == this.mostActiveActors || n > this.mostActiveActors.length) {
+            final var top = new BoundedHeap<>(n, orderByActivity);
+            this.actors.forEachValue(actor -> {
+                final var name = actor.getName().toLowerCase();
+                top.offer(new Entry<>(new ActivityKey(this.moviesByActor.get(name).size(), name), actor));
+            });
+
+            @SuppressWarnings("unchecked") final Entry<ActivityKey, Person>[] sorted =
+                    top.toSortedArray(this.sortingAlgorithm, Entry[]::new);
+            this.mostActiveActors = sorted;
+        }
+
+        final var actors = new Person[n];
+        for (int i = 0; n > i; ++i) {
+            actors[i] = this.mostActiveActors[i].value;
+        }
+
+        return actors;
     }
 
     public Stream<Person> streamDirectors() {
@@ -402,4 +734,60 @@ public final class MovidaCore implements IMovidaConfig, IMovidaDB, IMovidaSearch
     public Collaboration[] maximizeCollaborationsInTheTeamOf(final Person actor) {
         return this.collaborations.maximizeCollaborationsInTheTeamOf(actor);
     }
+
+    /*
+     * Orders the actors by descending activity, then by lowercase name.
+     */
+    private static final class ActivityKey implements Comparable<ActivityKey> {
+        private final int activity;
+        private final String name;
+
+        ActivityKey(final int activity, final String name) {
+            this.activity = activity;
+            this.name = name;
+        }
+
+        @Override
+        public int compareTo(final ActivityKey other) {
+            final var cmp = Integer.compare(other.activity, this.activity);
+            return (0 == cmp) ? this.name.compareTo(other.name) : cmp;
+        }
+    }
+
+    /*
+     * Sorts by title the lists in [from, to), splitting them between the threads of the pool.
+     */
+    @SuppressWarnings("serial")
+    private static final class SortListsTask extends RecursiveAction {
+        // Most lists are short, so each task sorts several of them.
+        private static final int LISTS_PER_TASK = 256;
+        private final IArray<DynamicArray<Movie>> lists;
+        private final int from;
+        private final int to;
+        private final ISort sortingAlgorithm;
+
+        SortListsTask(final IArray<DynamicArray<Movie>> lists, final int from, final int to,
+                      final ISort sortingAlgorithm) {
+            this.lists = lists;
+            this.from = from;
+            this.to = to;
+            this.sortingAlgorithm = sortingAlgorithm;
+        }
+
+        @Override
+        protected void compute() {
+            if (LISTS_PER_TASK >= this.to - this.from) {
+                for (int i = this.from; this.to > i; ++i) {
+                    this.lists.get(i).sort(this.sortingAlgorithm, orderByTitle);
+                }
+                return;
+            }
+
+            final var middle = (this.from + this.to) >>> 1;
+            invokeAll(
+                    new SortListsTask(this.lists, this.from, middle, this.sortingAlgorithm),
+                    new SortListsTask(this.lists, middle, this.to, this.sortingAlgorithm)
+            );
+        }
+    }
 }
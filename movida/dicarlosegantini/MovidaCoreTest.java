@@ -372,11 +372,18 @@ class MovidaCoreTest {
         assertTrue(this.sut.setSort(SortingAlgorithm.QuickSort));
         assertFalse(this.sut.setSort(SortingAlgorithm.QuickSort));
         assertTrue(this.sut.setSort(SortingAlgorithm.SelectionSort));
-
-        assertFalse(this.sut.setSort(SortingAlgorithm.BubbleSort));
-        assertFalse(this.sut.setSort(SortingAlgorithm.HeapSort));
+        assertTrue(this.sut.setSort(SortingAlgorithm.MergeSort));
         assertFalse(this.sut.setSort(SortingAlgorithm.MergeSort));
+        assertTrue(this.sut.setSort(SortingAlgorithm.HeapSort));
+        assertFalse(this.sut.setSort(SortingAlgorithm.HeapSort));
+        assertTrue(this.sut.setSort(SortingAlgorithm.TimSort));
+        assertFalse(this.sut.setSort(SortingAlgorithm.TimSort));
+        assertTrue(this.sut.setSort(SortingAlgorithm.RadixSort));
+        assertFalse(this.sut.setSort(SortingAlgorithm.RadixSort));
+        assertTrue(this.sut.setSort(SortingAlgorithm.InsertionSort));
         assertFalse(this.sut.setSort(SortingAlgorithm.InsertionSort));
+
+        assertFalse(this.sut.setSort(SortingAlgorithm.BubbleSort));
     }
 
     @Test
@@ -384,18 +391,60 @@ class MovidaCoreTest {
         this.sut.setMap(MapImplementation.HashIndirizzamentoAperto);
 
         assertFalse(this.sut.setMap(MapImplementation.HashIndirizzamentoAperto));
+        assertTrue(this.sut.setMap(MapImplementation.ABR));
+        assertFalse(this.sut.setMap(MapImplementation.ABR));
         assertTrue(this.sut.setMap(MapImplementation.ArrayOrdinato));
         assertFalse(this.sut.setMap(MapImplementation.ArrayOrdinato));
         assertTrue(this.sut.setMap(MapImplementation.HashIndirizzamentoAperto));
-
-        assertFalse(this.sut.setMap(MapImplementation.ABR));
-        assertFalse(this.sut.setMap(MapImplementation.Alberi23));
+        assertTrue(this.sut.setMap(MapImplementation.AVL));
         assertFalse(this.sut.setMap(MapImplementation.AVL));
+        assertTrue(this.sut.setMap(MapImplementation.Alberi23));
+        assertFalse(this.sut.setMap(MapImplementation.Alberi23));
+        assertTrue(this.sut.setMap(MapImplementation.BTree));
         assertFalse(this.sut.setMap(MapImplementation.BTree));
+        assertTrue(this.sut.setMap(MapImplementation.HashConcatenamento));
         assertFalse(this.sut.setMap(MapImplementation.HashConcatenamento));
+        assertTrue(this.sut.setMap(MapImplementation.SwissTable));
+        assertFalse(this.sut.setMap(MapImplementation.SwissTable));
+        assertTrue(this.sut.setMap(MapImplementation.HashIndirizzamentoAperto));
+
+        assertTrue(this.sut.setMap(MapImplementation.ListaNonOrdinata));
         assertFalse(this.sut.setMap(MapImplementation.ListaNonOrdinata));
     }
 
+    @Test
+    void setMapKeepsData() {
+        final MapImplementation[] implementations = {
+                MapImplementation.HashIndirizzamentoAperto,
+                MapImplementation.ArrayOrdinato,
+                MapImplementation.AVL,
+                MapImplementation.BTree,
+                MapImplementation.HashConcatenamento,
+                MapImplementation.Alberi23,
+                MapImplementation.ABR,
+                MapImplementation.ListaNonOrdinata,
+                MapImplementation.SwissTable,
+        };
+
+        for (final var implementation : implementations) {
+            this.sut.setMap(implementation);
+
+            assertEquals(this.MOVIES.length, this.sut.countMovies());
+            assertEquals(this.ACTORS.length, this.sut.countActors());
+            assertEquals(this.DIRECTORS.length, this.sut.countDirectors());
+            Arrays.stream(this.MOVIES).forEach(m -> assertNotNull(this.sut.getMovieByTitle(m.getTitle())));
+            Arrays.stream(this.ACTORS).forEach(a -> assertNotNull(this.sut.getActorByName(a.getName())));
+            Arrays.stream(this.MOVIES).forEach(m -> assertEquals(1, this.sut.searchMoviesInYear(m.getYear()).length));
+        }
+
+        for (final var movie : this.MOVIES) {
+            assertTrue(this.sut.deleteMovieByTitle(movie.getTitle()));
+            assertNull(this.sut.getMovieByTitle(movie.getTitle()));
+        }
+        assertEquals(0, this.sut.countActors());
+        assertEquals(0, this.sut.countDirectors());
+    }
+
     @Test
     void searchMoviesByTitle() {
         {
@@ -525,4 +574,199 @@ class MovidaCoreTest {
             assertEquals(this.ACTORS_BY_ACTIVITY[i].getName(), result[i].getName());
         }
     }
+
+    @Test
+    void searchMostWithSortByKey() {
+        this.sut.setSort(SortingAlgorithm.RadixSort);
+        this.sut.finalizeLoad();
+
+        this.searchMostVotedMovies();
+        this.searchMostRecentMovies();
+        this.searchMostActiveActors();
+    }
+
+    @Test
+    void searchMostWithGrowingN() {
+        for (int n = 0; this.MOVIES_BY_VOTES.length >= n; ++n) {
+            final var result = this.sut.searchMostVotedMovies(n);
+
+            assertEquals(n, result.length);
+            for (int i = 0; n > i; ++i) {
+                assertEquals(this.MOVIES_BY_VOTES[i].getTitle(), result[i].getTitle());
+            }
+        }
+
+        for (int n = 0; this.ACTORS_BY_ACTIVITY.length >= n; ++n) {
+            final var result = this.sut.searchMostActiveActors(n);
+
+            assertEquals(n, result.length);
+            for (int i = 0; n > i; ++i) {
+                assertEquals(this.ACTORS_BY_ACTIVITY[i].getName(), result[i].getName());
+            }
+        }
+
+        // Smaller N are served by the results of the bigger ones.
+        assertEquals(this.MOVIES_BY_VOTES[0].getTitle(), this.sut.searchMostVotedMovies(1)[0].getTitle());
+        assertEquals(this.ACTORS_BY_ACTIVITY[0].getName(), this.sut.searchMostActiveActors(1)[0].getName());
+
+        // Deletions invalidate the results.
+        this.sut.deleteMovieByTitle(this.MOVIES_BY_VOTES[0].getTitle());
+        assertEquals(this.MOVIES_BY_VOTES[1].getTitle(), this.sut.searchMostVotedMovies(1)[0].getTitle());
+    }
+
+    @Test
+    void finalizeLoadInParallel() {
+        this.sut = new MovidaCore();
+        this.sut.setParallelism(4);
+
+        for (int i = this.MOVIES.length - 1; 0 <= i; --i) {
+            this.sut.load(this.MOVIES[i]);
+        }
+        this.sut.finalizeLoad();
+        // The pool of threads is reused by the following loads.
+        this.sut.finalizeLoad();
+
+        this.searchMoviesInYear();
+        this.searchMoviesDirectedBy();
+        this.searchMoviesStarredBy();
+        this.searchMostRecentMovies();
+        this.searchMostVotedMovies();
+        this.searchMostActiveActors();
+    }
+
+    @Test
+    void addMovie() {
+        this.sut = new MovidaCore();
+
+        for (int i = this.MOVIES.length - 1; 0 <= i; --i) {
+            assertTrue(this.sut.addMovie(this.MOVIES[i]));
+        }
+        assertFalse(this.sut.addMovie(new Movie("CAPE FEAR", 2000, 1, new Person[0], new Person("Nobody"))));
+        assertEquals(this.MOVIES.length, this.sut.countMovies());
+
+        this.searchMoviesInYear();
+        this.searchMoviesDirectedBy();
+        this.searchMoviesStarredBy();
+        this.searchMostRecentMovies();
+        this.searchMostVotedMovies();
+        this.searchMostActiveActors();
+    }
+
+    @Test
+    void addMovieUpdatesRankings() {
+        final var goodfellas = new Movie("Goodfellas", 1990, 1000000, makePeople(new String[]{
+                "Robert De Niro", "Ray Liotta", "Joe Pesci", "Jodie Foster"
+        }), new Person("Martin Scorsese"));
+
+        // The rankings are cached before adding the movie, then they are compared with a full load.
+        this.sut.searchMostVotedMovies(this.MOVIES.length);
+        this.sut.searchMostActiveActors(this.ACTORS.length);
+        assertTrue(this.sut.addMovie(goodfellas));
+
+        final var expected = new MovidaCore();
+        Arrays.stream(this.MOVIES).forEach(expected::load);
+        expected.load(goodfellas);
+        expected.finalizeLoad();
+
+        for (int n = 0; this.MOVIES.length + 1 >= n; ++n) {
+            assertArrayEquals(titles(expected.searchMostVotedMovies(n)), titles(this.sut.searchMostVotedMovies(n)));
+            assertArrayEquals(titles(expected.searchMostRecentMovies(n)), titles(this.sut.searchMostRecentMovies(n)));
+        }
+        for (int n = 0; this.ACTORS.length + 2 >= n; ++n) {
+            assertArrayEquals(names(expected.searchMostActiveActors(n)), names(this.sut.searchMostActiveActors(n)));
+        }
+
+        assertArrayEquals(titles(expected.searchMoviesStarredBy("Robert De Niro")),
+                titles(this.sut.searchMoviesStarredBy("Robert De Niro")));
+        assertArrayEquals(titles(expected.searchMoviesDirectedBy("Martin Scorsese")),
+                titles(this.sut.searchMoviesDirectedBy("Martin Scorsese")));
+        assertEquals(expected.getTeamOf(new Person("Ray Liotta")).length,
+                this.sut.getTeamOf(new Person("Ray Liotta")).length);
+    }
+
+    @Test
+    void addMovieWithRepeatedActor() {
+        final var goodfellas = new Movie("Goodfellas", 1990, 1000000, makePeople(new String[]{
+                "Ray Liotta", "Robert De Niro", "ray liotta", "Joe Pesci"
+        }), new Person("Martin Scorsese"));
+
+        this.sut.searchMostActiveActors(this.ACTORS.length);
+        assertTrue(this.sut.addMovie(goodfellas));
+
+        final var expected = new MovidaCore();
+        Arrays.stream(this.MOVIES).forEach(expected::load);
+        expected.load(goodfellas);
+        expected.finalizeLoad();
+
+        // An actor listed twice stars in the movie once, whether it's added or loaded.
+        for (final var sut : new MovidaCore[]{expected, this.sut}) {
+            assertArrayEquals(new String[]{"Goodfellas"}, titles(sut.searchMoviesStarredBy("Ray Liotta")));
+            assertEquals(this.ACTORS.length + 2, sut.countActors());
+            assertEquals(2, sut.getDirectCollaboratorsOf(new Person("Ray Liotta")).length);
+        }
+
+        for (int n = 0; this.ACTORS.length + 2 >= n; ++n) {
+            assertArrayEquals(names(expected.searchMostActiveActors(n)), names(this.sut.searchMostActiveActors(n)));
+        }
+
+        assertTrue(this.sut.deleteMovieByTitle("Goodfellas"));
+        assertEquals(0, this.sut.searchMoviesStarredBy("Ray Liotta").length);
+        assertEquals(this.ACTORS.length, this.sut.countActors());
+    }
+
+    @Test
+    void upsertMovie() {
+        final var pulpFiction = new Movie("pulp fiction", 1994, 10, makePeople(new String[]{
+                "John Travolta", "Samuel L. Jackson"
+        }), new Person("Quentin Tarantino"));
+
+        final var oldMovie = this.sut.upsertMovie(pulpFiction);
+        assertNotNull(oldMovie);
+        assertEquals(1743616, oldMovie.getVotes());
+        assertEquals(this.MOVIES.length, this.sut.countMovies());
+
+        assertEquals(10, this.sut.getMovieByTitle("Pulp Fiction").getVotes());
+        assertEquals(0, this.sut.searchMoviesStarredBy("Uma Thurman").length);
+        assertEquals(1, this.sut.searchMoviesStarredBy("Samuel L. Jackson").length);
+        assertEquals("Taxi Driver", this.sut.searchMostVotedMovies(1)[0].getTitle());
+
+        final var jackieBrown = new Movie("Jackie Brown", 1997, 1, new Person[0], new Person("Quentin Tarantino"));
+        assertNull(this.sut.upsertMovie(jackieBrown));
+        assertEquals(this.MOVIES.length + 1, this.sut.countMovies());
+        assertEquals("Jackie Brown", this.sut.searchMostRecentMovies(1)[0].getTitle());
+    }
+
+    @Test
+    void upsertMovieKeepsSharedCollaborations() {
+        // Robert De Niro and Jodie Foster star together in Taxi Driver and in Goodfellas.
+        final var goodfellas = new Movie("Goodfellas", 1990, 1000000, makePeople(new String[]{
+                "Robert De Niro", "Jodie Foster"
+        }), new Person("Martin Scorsese"));
+        assertTrue(this.sut.addMovie(goodfellas));
+
+        final var deNiro = new Person("Robert De Niro");
+        final var foster = new Person("Jodie Foster");
+
+        assertNotNull(this.sut.upsertMovie(new Movie("Goodfellas", 1990, 1000000,
+                new Person[]{deNiro}, new Person("Martin Scorsese"))));
+        assertTrue(Arrays.asList(this.sut.getDirectCollaboratorsOf(deNiro)).contains(foster));
+        assertTrue(Arrays.asList(this.sut.getDirectCollaboratorsOf(foster)).contains(deNiro));
+
+        // Once no movie stars both of them they are no more collaborators.
+        assertNotNull(this.sut.upsertMovie(new Movie("Taxi Driver", 1976, 684728,
+                new Person[]{deNiro}, new Person("Martin Scorsese"))));
+        assertFalse(Arrays.asList(this.sut.getDirectCollaboratorsOf(deNiro)).contains(foster));
+        assertEquals(0, this.sut.getDirectCollaboratorsOf(foster).length);
+
+        assertTrue(this.sut.deleteMovieByTitle("Cape Fear"));
+        assertEquals(0, this.sut.getDirectCollaboratorsOf(deNiro).length);
+    }
+
+    static String[] titles(final Movie[] movies) {
+        return Arrays.stream(movies).map(Movie::getTitle).toArray(String[]::new);
+    }
+
+    static String[] names(final Person[] people) {
+        return Arrays.stream(people).map(Person::getName).toArray(String[]::new);
+    }
 }
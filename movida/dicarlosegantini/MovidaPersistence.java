@@ -30,8 +30,8 @@ package movida.dicarlosegantini;
 import movida.commons.MovidaFileException;
 import movida.commons.Movie;
 import movida.commons.Person;
-import movida.dicarlosegantini.map.HashIndirizzamentoAperto;
 import movida.dicarlosegantini.map.IMap;
+import movida.dicarlosegantini.map.ListaNonOrdinata;
 
 import java.io.*;
 import java.util.Arrays;
@@ -79,7 +79,8 @@ public final class MovidaPersistence {
     }
 
     public void loadMovies(final File f, final Consumer<Movie> consumer) throws MovidaFileException {
-        final var movieData = new HashIndirizzamentoAperto<String, String>();
+        // With only five keys a linear scan is cheaper than hashing them.
+        final var movieData = new ListaNonOrdinata<String, String>();
         movieData.reserve(5);
 
         try {
@@ -28,9 +28,11 @@
 package movida.dicarlosegantini.array;
 
 import java.util.Comparator;
+import java.util.function.IntFunction;
 
 /**
  * Binary search the given item in the array.
+ * Implemented iteratively, when there are equal items the index of the first one is returned.
  * <p>
  * <pre>
  * Time complexity: O(log(n))
@@ -75,28 +77,133 @@ public final class BinarySearch {
      * @param to         end index (exclusive)
      * @param comparator function used to compare array items
      */
-    public static <T> int search(final T[] array, final int from, int to, final T item,
+    public static <T> int search(final T[] array, final int from, final int to, final T item,
                                  final Comparator<T> comparator) {
         assert 0 <= from;
         assert from <= to;
         assert to <= array.length;
 
-        to -= 1;
-        if (from > to) {
+        if (from == to) {
             return -(from + 1);
         }
 
-        final var middle = (from + to) / 2;
-        final var result = comparator.compare(array[middle], item);
+        // The first item not less than the searched one is in [base, base + length].
+        var base = from;
+        var length = to - from;
+
+        // The loop always runs floor(log2(n)) + 1 times, and its only branch is a conditional move.
+        while (1 < length) {
+            final var half = length >>> 1;
+            // String::compareTo may return values outside -1, 0, 1.
+            base = (0 > comparator.compare(array[base + half], item)) ? base + half : base;
+            length -= half;
+        }
+
+        final var result = comparator.compare(array[base], item);
+
+        if (0 == result) {
+            return base;
+        }
+
+        if (0 > result) {
+            base += 1;
+
+            if (to > base && 0 == comparator.compare(array[base], item)) {
+                return base;
+            }
+        }
+
+        return -(base + 1);
+    }
+
+    /**
+     * Searches the items of a sorted sequence which is not a plain array.
+     *
+     * @param items      function that given an index returns the item at that index
+     * @param from       start index (inclusive)
+     * @param to         end index (exclusive)
+     * @param comparator function used to compare the items
+     */
+    public static <T> int search(final IntFunction<T> items, final int from, final int to, final T item,
+                                 final Comparator<T> comparator) {
+        assert 0 <= from;
+        assert from <= to;
+
+        if (from == to) {
+            return -(from + 1);
+        }
+
+        var base = from;
+        var length = to - from;
+
+        while (1 < length) {
+            final var half = length >>> 1;
+            base = (0 > comparator.compare(items.apply(base + half), item)) ? base + half : base;
+            length -= half;
+        }
+
+        final var result = comparator.compare(items.apply(base), item);
+
+        if (0 == result) {
+            return base;
+        }
 
-        // String::compareTo may return values outside -1, 0, 1.
         if (0 > result) {
-            // param `to` is incremented by one because search expects an exclusive end index
-            return search(array, middle + 1, to + 1, item, comparator);
-        } else if (0 < result) {
-            return search(array, from, middle, item, comparator);
-        } else {
-            return middle;
+            base += 1;
+
+            if (to > base && 0 == comparator.compare(items.apply(base), item)) {
+                return base;
+            }
+        }
+
+        return -(base + 1);
+    }
+
+    /**
+     * @param array array instance, sorted in ascending order
+     * @param from  start index (inclusive)
+     * @param to    end index (exclusive)
+     */
+    public static int search(final int[] array, final int from, final int to, final int value) {
+        assert 0 <= from;
+        assert from <= to;
+        assert to <= array.length;
+
+        var base = from;
+        var length = to - from;
+
+        while (1 < length) {
+            final var half = length >>> 1;
+            base = (array[base + half] < value) ? base + half : base;
+            length -= half;
         }
+
+        // base becomes the first index whose value is not less than the searched one.
+        base += (0 < length && array[base] < value) ? 1 : 0;
+        return (to > base && array[base] == value) ? base : -(base + 1);
+    }
+
+    /**
+     * @param array array instance, sorted in ascending order
+     * @param from  start index (inclusive)
+     * @param to    end index (exclusive)
+     */
+    public static int search(final long[] array, final int from, final int to, final long value) {
+        assert 0 <= from;
+        assert from <= to;
+        assert to <= array.length;
+
+        var base = from;
+        var length = to - from;
+
+        while (1 < length) {
+            final var half = length >>> 1;
+            base = (array[base + half] < value) ? base + half : base;
+            length -= half;
+        }
+
+        // base becomes the first index whose value is not less than the searched one.
+        base += (0 < length && array[base] < value) ? 1 : 0;
+        return (to > base && array[base] == value) ? base : -(base + 1);
     }
 }
@@ -66,4 +66,30 @@ class BinarySearchTest {
         assertEquals(-1, BinarySearch.search(array, 0, array.length, -1, Integer::compareTo));
         assertEquals(-7, BinarySearch.search(array, 0, array.length, 6, Integer::compareTo));
     }
-}
\ No newline at end of file
+
+    // Index of the first item not less than the searched one.
+    static int lowerBound(final Integer[] array, final int item) {
+        var index = 0;
+        while (array.length > index && array[index] < item) {
+            index += 1;
+        }
+
+        return index;
+    }
+
+    @Test
+    void searchDuplicates() {
+        for (int length = 0; 64 > length; ++length) {
+            final var array = new Integer[length];
+            for (int i = 0; length > i; ++i) {
+                array[i] = i / 3 * 2;
+            }
+
+            for (int item = -1; length > item; ++item) {
+                final var index = lowerBound(array, item);
+                final var expected = (length > index && item == array[index]) ? index : -(index + 1);
+                assertEquals(expected, BinarySearch.search(array, 0, length, item, Integer::compareTo));
+            }
+        }
+    }
+}
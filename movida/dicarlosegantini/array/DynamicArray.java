@@ -27,11 +27,14 @@
 
 package movida.dicarlosegantini.array;
 
+import movida.dicarlosegantini.sort.IKeySort;
 import movida.dicarlosegantini.sort.ISort;
 
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.function.Consumer;
 import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
 import java.util.stream.Stream;
 
 /**
@@ -39,7 +42,7 @@ import java.util.stream.Stream;
  *
  * @param <T> Type of the items in the array.
  */
-public final class DynamicArray<T> {
+public final class DynamicArray<T> implements IArray<T> {
     private T[] array;
     private int size;
 
@@ -63,6 +66,7 @@ public final class DynamicArray<T> {
      *
      * @param additionalItems Minimum number of additional items that the array must be able to accommodate.
      */
+    @Override
     @SuppressWarnings({"unchecked"})
     public void reserve(final int additionalItems) {
         assert 0 <= additionalItems;
@@ -94,6 +98,7 @@ public final class DynamicArray<T> {
      * @param index The index where the item will be placed. Must be in range [0, size].
      * @param item  The item to add in the array.
      */
+    @Override
     public void add(final int index, final T item) {
         assert index <= this.size;
 
@@ -113,6 +118,7 @@ public final class DynamicArray<T> {
      *
      * @param item The item to append in the array.
      */
+    @Override
     public void append(final T item) {
         this.add(this.size, item);
     }
@@ -128,6 +134,7 @@ public final class DynamicArray<T> {
      * @param index The index of the item to remove.
      * @return The removed item.
      */
+    @Override
     public T remove(final int index) {
         assert index < this.size;
 
@@ -150,6 +157,7 @@ public final class DynamicArray<T> {
      * @param index The index of the item to get.
      * @return The item at specified index.
      */
+    @Override
     public T get(final int index) {
         return this.array[index];
     }
@@ -166,12 +174,37 @@ public final class DynamicArray<T> {
      * @param item  The new item which will replace the old one.
      * @return The replaced item.
      */
+    @Override
     public T replace(final int index, final T item) {
         final var oldItem = this.array[index];
         this.array[index] = item;
         return oldItem;
     }
 
+    /**
+     * Moves the item at index from to index to, shifting the items in between by one position.
+     * <p>
+     * <pre>
+     * Time complexity: O(|from - to|)
+     * </pre>
+     * <p>
+     *
+     * @param from The index of the item to move.
+     * @param to   The index where the item will be placed.
+     */
+    public void move(final int from, final int to) {
+        assert from < this.size;
+        assert to < this.size;
+
+        final var item = this.array[from];
+        if (from > to) {
+            System.arraycopy(this.array, to, this.array, to + 1, from - to);
+        } else {
+            System.arraycopy(this.array, from + 1, this.array, from, to - from);
+        }
+        this.array[to] = item;
+    }
+
     /**
      * Clears the array making it empty.
      * <p>
@@ -180,6 +213,7 @@ public final class DynamicArray<T> {
      * </pre>
      * <p>
      */
+    @Override
     public void clear() {
         // Used to release the references of the items in the array for the garbage collector.
         Arrays.fill(this.array, null);
@@ -196,14 +230,38 @@ public final class DynamicArray<T> {
      *
      * @return The stream of items in the array.
      */
+    @Override
     public Stream<T> stream() {
         return Arrays.stream(this.array).limit(this.size);
     }
 
+    /**
+     * Performs the given action on each item of the array, in order.
+     * <p>
+     * <pre>
+     * Time complexity: O(n)
+     * </pre>
+     * <p>
+     *
+     * @param action The action to perform on each item.
+     */
+    @Override
+    public void forEach(final Consumer<? super T> action) {
+        for (int i = 0; this.size > i; ++i) {
+            action.accept(this.array[i]);
+        }
+    }
+
+    @Override
     public void sort(final ISort sortingAlgorithm, final Comparator<T> comparator) {
         sortingAlgorithm.sort(this.array, this.size, comparator);
     }
 
+    @Override
+    public void sortByKey(final IKeySort sortingAlgorithm, final ToIntFunction<T> key, final Comparator<T> tieBreak) {
+        sortingAlgorithm.sortByKey(this.array, this.size, key, tieBreak);
+    }
+
     /**
      * Binary searches the given item in the array.
      * <p>
@@ -218,6 +276,7 @@ public final class DynamicArray<T> {
      * <\pre>
      * @implNote The array must be already sorted using the same comparator function otherwise is UB.
      */
+    @Override
     public int binarySearch(final T item, final Comparator<T> comparator) {
         return BinarySearch.search(this.array, this.size, item, comparator);
     }
@@ -233,6 +292,7 @@ public final class DynamicArray<T> {
      * @return true if the item was inserted, false when the item was already in the array.
      * @implNote The array must be already sorted using the same comparator function otherwise is UB.
      */
+    @Override
     @SuppressWarnings("UnusedReturnValue")
     public boolean binaryInsert(final T item, final Comparator<T> comparator) {
         final var index = this.binarySearch(item, comparator);
@@ -256,6 +316,7 @@ public final class DynamicArray<T> {
      * @return true if the item was removed, false if the item was not found in the array.
      * @implNote The array must be already sorted using the same comparator function otherwise is UB.
      */
+    @Override
     @SuppressWarnings("UnusedReturnValue")
     public boolean binaryRemove(final T item, final Comparator<T> comparator) {
         final var index = this.binarySearch(item, comparator);
@@ -281,6 +342,7 @@ public final class DynamicArray<T> {
      * @param to           End index (exclusive) of the array (end of the slice).
      * @return The slice of the array.
      */
+    @Override
     public T[] slice(final IntFunction<T[]> sliceBuilder, final int from, final int to) {
         assert 0 <= from;
         assert from <= to;
@@ -303,6 +365,7 @@ public final class DynamicArray<T> {
      *
      * @return The capacity of the array.
      */
+    @Override
     public int capacity() {
         return this.array.length;
     }
@@ -317,6 +380,7 @@ public final class DynamicArray<T> {
      *
      * @return The size of the array.
      */
+    @Override
     public int size() {
         return this.size;
     }
@@ -331,6 +395,7 @@ public final class DynamicArray<T> {
      *
      * @return true if the array is empty, false otherwise.
      */
+    @Override
     public boolean isEmpty() {
         return 0 == this.size;
     }
@@ -344,4 +344,21 @@ class DynamicArrayTest {
             assertEquals(newItem, this.sut.get(i));
         }
     }
+
+    @Test
+    void move() {
+        this.seed(5);
+        final var CAPACITY = this.sut.capacity();
+
+        this.sut.move(3, 0);
+        assertArrayEquals(new Integer[]{3, 0, 1, 2, 4}, this.sut.stream().toArray(Integer[]::new));
+
+        this.sut.move(0, 4);
+        assertArrayEquals(new Integer[]{0, 1, 2, 4, 3}, this.sut.stream().toArray(Integer[]::new));
+
+        this.sut.move(2, 2);
+        assertArrayEquals(new Integer[]{0, 1, 2, 4, 3}, this.sut.stream().toArray(Integer[]::new));
+        assertEquals(CAPACITY, this.sut.capacity());
+        assertEquals(5, this.sut.size());
+    }
 }
@@ -0,0 +1,139 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 - Davide Di Carlo, Andrea Segantini
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package movida.dicarlosegantini.array;
+
+import java.util.Comparator;
+import java.util.function.IntFunction;
+
+/**
+ * A read-only copy of a sorted array, laid out in Eytzinger (breadth-first) order: the root of the implicit binary
+ * search tree is at index 1 and the children of the item at index k are at 2k and 2k + 1.
+ * The first levels of the tree, visited by every search, are contiguous in memory and the items visited by a search
+ * go forward in the array, so large arrays are searched with fewer cache misses than with BinarySearch.
+ * <p>
+ * <pre>
+ * Space complexity: O(n)
+ * </pre>
+ * <p>
+ *
+ * @param <T> Type of the items in the array.
+ */
+public final class EytzingerArray<T> {
+    // 1-based, items[0] is unused.
+    private final Object[] items;
+
+    /**
+     * Makes an EytzingerArray from the items of a sorted array.
+     * <p>
+     * <pre>
+     * Time complexity: O(n)
+     * </pre>
+     * <p>
+     *
+     * @param sortedItems Function that given an index returns the item of the sorted array at that index.
+     * @param size        The number of items in the sorted array.
+     */
+    public EytzingerArray(final IntFunction<T> sortedItems, final int size) {
+        assert 0 <= size;
+
+        this.items = new Object[size + 1];
+
+        final var filled = this.fill(sortedItems, 0, 1);
+        assert filled == size;
+    }
+
+    /*
+     * Fills the subtree rooted at k with the sorted items starting from index, visiting it in-order.
+     * Returns the index of the first item not used.
+     */
+    private int fill(final IntFunction<T> sortedItems, int index, final int k) {
+        if (k < this.items.length) {
+            index = this.fill(sortedItems, index, 2 * k);
+            this.items[k] = sortedItems.apply(index);
+            index = this.fill(sortedItems, index + 1, 2 * k + 1);
+        }
+
+        return index;
+    }
+
+    /**
+     * Searches the given item.
+     * <p>
+     * <pre>
+     * Time complexity: O(log(n))
+     * </pre>
+     * <p>
+     *
+     * @param comparator function used to compare the items
+     * @return Same as BinarySearch, indexes refer to the sorted array: <pre>
+     * present -> return the index of the first item equal to the searched one.
+     * absent  -> return -(i + 1), where i is the index in which the item would be placed.
+     * </pre>
+     */
+    @SuppressWarnings("unchecked")
+    public int search(final T item, final Comparator<T> comparator) {
+        final var length = this.items.length;
+        var k = 1;
+
+        // Goes right when the item at k is less than the searched one, until falling off the tree.
+        while (k < length) {
+            k = 2 * k + ((0 > comparator.compare((T) this.items[k], item)) ? 1 : 0);
+        }
+
+        // Drops the trailing right turns and the last left one: k becomes the first item not less than the searched
+        // one, or 0 if there's none.
+        k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+
+        if (0 == k) {
+            return -length;
+        }
+
+        final var rank = this.rankOf(k);
+        return (0 == comparator.compare((T) this.items[k], item)) ? rank : -(rank + 1);
+    }
+
+    /*
+     * Index in the sorted array of the item at k, computed from the shape of the tree instead of being stored.
+     * In the perfect tree with the same height the item at depth d is at position (2 * (k - 2^d) + 1) * 2^(h-1-d) - 1
+     * of the in-order visit, the leaves of the last level being at the even positions: the ones missing from the
+     * right end of the last level are subtracted.
+     */
+    private int rankOf(final int k) {
+        final var size = this.items.length - 1;
+        final var height = Integer.SIZE - Integer.numberOfLeadingZeros(size);
+        final var depth = Integer.SIZE - 1 - Integer.numberOfLeadingZeros(k);
+        final var position = ((2 * (k - (1 << depth)) + 1) << (height - 1 - depth)) - 1;
+        final var lastLevelLeaves = size - (1 << (height - 1)) + 1;
+
+        return position - Math.max(0, (position + 1) / 2 - lastLevelLeaves);
+    }
+
+    public int size() {
+        return this.items.length - 1;
+    }
+}
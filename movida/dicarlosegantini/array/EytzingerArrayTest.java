@@ -0,0 +1,59 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 - Davide Di Carlo, Andrea Segantini
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package movida.dicarlosegantini.array;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EytzingerArrayTest {
+    @Test
+    void searchEmptyArray() {
+        final var sut = new EytzingerArray<Integer>(i -> i, 0);
+        assertEquals(0, sut.size());
+        assertEquals(-1, sut.search(0, Integer::compareTo));
+    }
+
+    @Test
+    void searchSameAsBinarySearch() {
+        for (int length = 0; 130 > length; ++length) {
+            final var array = new Integer[length];
+            for (int i = 0; length > i; ++i) {
+                array[i] = i / 3 * 2;
+            }
+
+            final var sut = new EytzingerArray<Integer>(i -> array[i], length);
+            assertEquals(length, sut.size());
+
+            for (int item = -1; length > item; ++item) {
+                final var expected = BinarySearch.search(array, 0, length, item, Integer::compareTo);
+                assertEquals(expected, sut.search(item, Integer::compareTo));
+            }
+        }
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 - Davide Di Carlo, Andrea Segantini
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package movida.dicarlosegantini.array;
+
+import movida.dicarlosegantini.sort.IKeySort;
+import movida.dicarlosegantini.sort.ISort;
+
+import java.util.Comparator;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+
+/**
+ * Interface for a resizable array.
+ *
+ * @param <T> Type of the items in the array.
+ */
+public interface IArray<T> {
+    /**
+     * If needed, expands the array to support at least additionalItems more.
+     *
+     * @param additionalItems Minimum number of additional items that the array must be able to accommodate.
+     */
+    void reserve(final int additionalItems);
+
+    /**
+     * Adds the given item at the specified index of the array.
+     *
+     * @param index The index where the item will be placed. Must be in range [0, size].
+     * @param item  The item to add in the array.
+     */
+    void add(final int index, final T item);
+
+    /**
+     * Appends the given item at the end of the array.
+     *
+     * @param item The item to append in the array.
+     */
+    default void append(final T item) {
+        this.add(this.size(), item);
+    }
+
+    /**
+     * Removes the item at index from the array.
+     *
+     * @param index The index of the item to remove.
+     * @return The removed item.
+     */
+    T remove(final int index);
+
+    /**
+     * Gets the item at given index of the array.
+     *
+     * @param index The index of the item to get.
+     * @return The item at specified index.
+     */
+    T get(final int index);
+
+    /**
+     * Replaces the item at given index of the array with the specified item.
+     *
+     * @param index The index of the item to replace.
+     * @param item  The new item which will replace the old one.
+     * @return The replaced item.
+     */
+    T replace(final int index, final T item);
+
+    /**
+     * Clears the array making it empty.
+     */
+    void clear();
+
+    /**
+     * Streams the items in the array.
+     *
+     * @return The stream of items in the array.
+     */
+    Stream<T> stream();
+
+    /**
+     * Performs the given action on each item of the array, in order.
+     *
+     * @param action The action to perform on each item.
+     */
+    void forEach(final Consumer<? super T> action);
+
+    void sort(final ISort sortingAlgorithm, final Comparator<T> comparator);
+
+    void sortByKey(final IKeySort sortingAlgorithm, final ToIntFunction<T> key, final Comparator<T> tieBreak);
+
+    /**
+     * Binary searches the given item in the array.
+     *
+     * @return <pre>
+     * present -> return the index of the item in the array (index is in range [0, size - 1]).
+     * absent  -> return the index in which the item would be placed in the array (index is in range [-1, -size]).
+     * <\pre>
+     * @implNote The array must be already sorted using the same comparator function otherwise is UB.
+     */
+    int binarySearch(final T item, final Comparator<T> comparator);
+
+    /**
+     * Binary insert the given item into the array.
+     *
+     * @return true if the item was inserted, false when the item was already in the array.
+     * @implNote The array must be already sorted using the same comparator function otherwise is UB.
+     */
+    @SuppressWarnings("UnusedReturnValue")
+    default boolean binaryInsert(final T item, final Comparator<T> comparator) {
+        final var index = this.binarySearch(item, comparator);
+
+        if (0 <= index) {
+            return false;
+        }
+
+        this.add(-(index + 1), item);
+        return true;
+    }
+
+    /**
+     * Binary remove the given item from the array.
+     *
+     * @return true if the item was removed, false if the item was not found in the array.
+     * @implNote The array must be already sorted using the same comparator function otherwise is UB.
+     */
+    @SuppressWarnings("UnusedReturnValue")
+    default boolean binaryRemove(final T item, final Comparator<T> comparator) {
+        final var index = this.binarySearch(item, comparator);
+
+        if (0 > index) {
+            return false;
+        }
+
+        this.remove(index);
+        return true;
+    }
+
+    /**
+     * Returns a slice of the array.
+     *
+     * @param sliceBuilder Function that given an int returns a T[] of the given dimension.
+     * @param from         Start index (inclusive) of the array (start of the slice).
+     * @param to           End index (exclusive) of the array (end of the slice).
+     * @return The slice of the array.
+     */
+    T[] slice(final IntFunction<T[]> sliceBuilder, final int from, final int to);
+
+    /**
+     * Gets the capacity of the array.
+     *
+     * @return The capacity of the array.
+     */
+    int capacity();
+
+    /**
+     * Gets the size of the array.
+     *
+     * @return The size of the array.
+     */
+    int size();
+
+    /**
+     * Check if the array is empty.
+     *
+     * @return true if the array is empty, false otherwise.
+     */
+    default boolean isEmpty() {
+        return 0 == this.size();
+    }
+}
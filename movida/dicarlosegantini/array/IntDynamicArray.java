@@ -0,0 +1,286 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 - Davide Di Carlo, Andrea Segantini
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package movida.dicarlosegantini.array;
+
+import movida.dicarlosegantini.sort.RadixSort;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * A resizable array of int values.
+ * Like DynamicArray, but the values are stored unboxed in an int[].
+ */
+public final class IntDynamicArray {
+    private int[] array;
+    private int size;
+
+    /**
+     * Constructs an empty array.
+     */
+    public IntDynamicArray() {
+        this.array = new int[0];
+        this.size = 0;
+    }
+
+    /**
+     * If needed, expands the array to support at least additionalItems more.
+     * <p>
+     * <pre>
+     *                      Best      Worst
+     * Time complexity:     O(1)      O(n)
+     * Space complexity:    O(1)      O(n)
+     * </pre>
+     *
+     * @param additionalItems Minimum number of additional items that the array must be able to accommodate.
+     */
+    public void reserve(final int additionalItems) {
+        assert 0 <= additionalItems;
+
+        if ((this.size + additionalItems) <= this.capacity()) {
+            return;
+        }
+
+        // In order to avoid unnecessary reallocations,
+        // when the array is expanded, it is allocated more space than required
+        final var newCapacity = (int) Math.ceil((this.size + additionalItems) / 0.6);
+        this.array = Arrays.copyOf(this.array, newCapacity);
+    }
+
+    /**
+     * Adds the given value at the specified index of the array.
+     * <p>
+     * <pre>
+     * Time complexity: O(n)
+     * </pre>
+     * <p>
+     *
+     * @param index The index where the value will be placed. Must be in range [0, size].
+     * @param value The value to add in the array.
+     */
+    public void add(final int index, final int value) {
+        assert 0 <= index && index <= this.size;
+
+        this.reserve(1);
+        System.arraycopy(this.array, index, this.array, index + 1, this.size - index);
+        this.array[index] = value;
+        this.size += 1;
+    }
+
+    /**
+     * Appends the given value at the end of the array.
+     * <p>
+     * <pre>
+     * Time complexity: O(1)
+     * </pre>
+     * <p>
+     *
+     * @param value The value to append in the array.
+     */
+    public void append(final int value) {
+        this.reserve(1);
+        this.array[this.size] = value;
+        this.size += 1;
+    }
+
+    /**
+     * Removes the value at index from the array.
+     * <p>
+     * <pre>
+     * Time complexity: O(n)
+     * </pre>
+     * <p>
+     *
+     * @param index The index of the value to remove.
+     * @return The removed value.
+     */
+    public int remove(final int index) {
+        assert 0 <= index && index < this.size;
+
+        final var value = this.array[index];
+        System.arraycopy(this.array, index + 1, this.array, index, this.size - index - 1);
+        this.size -= 1;
+
+        return value;
+    }
+
+    /**
+     * Gets the value at given index of the array.
+     * <p>
+     * <pre>
+     * Time complexity: O(1)
+     * </pre>
+     * <p>
+     *
+     * @param index The index of the value to get.
+     * @return The value at specified index.
+     */
+    public int get(final int index) {
+        assert 0 <= index && index < this.size;
+        return this.array[index];
+    }
+
+    /**
+     * Replaces the value at given index of the array with the specified value.
+     * <p>
+     * <pre>
+     * Time complexity: O(1)
+     * </pre>
+     * <p>
+     *
+     * @param index The index of the value to replace.
+     * @param value The new value which will replace the old one.
+     * @return The replaced value.
+     */
+    public int replace(final int index, final int value) {
+        assert 0 <= index && index < this.size;
+
+        final var oldValue = this.array[index];
+        this.array[index] = value;
+        return oldValue;
+    }
+
+    /**
+     * Clears the array making it empty.
+     * <p>
+     * <pre>
+     * Time complexity: O(1)
+     * </pre>
+     * <p>
+     */
+    public void clear() {
+        // There are no references to release, the capacity is kept.
+        this.size = 0;
+    }
+
+    /**
+     * Streams the values in the array.
+     * <p>
+     * <pre>
+     * Time complexity: O(n)
+     * </pre>
+     * <p>
+     *
+     * @return The stream of values in the array.
+     */
+    public IntStream stream() {
+        return Arrays.stream(this.array, 0, this.size);
+    }
+
+    /**
+     * Sorts the values in ascending order, using radix sort.
+     * <p>
+     * <pre>
+     * Time complexity: O(n)
+     * </pre>
+     * <p>
+     */
+    public void sort() {
+        RadixSort.sort(this.array, 0, this.size);
+    }
+
+    /**
+     * Binary searches the given value in the array.
+     * <p>
+     * <pre>
+     * Time complexity: O(log(n))
+     * </pre>
+     * <p>
+     *
+     * @return <pre>
+     * present -> return the index of the value in the array (index is in range [0, size - 1]).
+     * absent  -> return the index in which the value would be placed in the array (index is in range [-1, -size]).
+     * <\pre>
+     * @implNote The array must be already sorted in ascending order otherwise is UB.
+     */
+    public int binarySearch(final int value) {
+        return BinarySearch.search(this.array, 0, this.size, value);
+    }
+
+    /**
+     * Returns a slice of the array.
+     * <p>
+     * <pre>
+     * Time complexity: O(m) where m is the length of the slice.
+     * </pre>
+     * <p>
+     *
+     * @param from Start index (inclusive) of the array (start of the slice).
+     * @param to   End index (exclusive) of the array (end of the slice).
+     * @return The slice of the array.
+     */
+    public int[] slice(final int from, final int to) {
+        assert 0 <= from;
+        assert from <= to;
+        assert to <= this.size;
+
+        return Arrays.copyOfRange(this.array, from, to);
+    }
+
+    /**
+     * Gets the capacity of the array.
+     * <p>
+     * <pre>
+     * Time complexity: O(1)
+     * </pre>
+     * <p>
+     *
+     * @return The capacity of the array.
+     */
+    public int capacity() {
+        return this.array.length;
+    }
+
+    /**
+     * Gets the size of the array.
+     * <p>
+     * <pre>
+     * Time complexity: O(1)
+     * </pre>
+     * <p>
+     *
+     * @return The size of the array.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Check if the array is empty.
+     * <p>
+     * <pre>
+     * Time complexity: O(1)
+     * </pre>
+     * <p>
+     *
+     * @return true if the array is empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        return 0 == this.size;
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 - Davide Di Carlo, Andrea Segantini
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package movida.dicarlosegantini.array;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntDynamicArrayTest {
+    IntDynamicArray sut = null;
+
+    @BeforeEach
+    void setUp() {
+        this.sut = new IntDynamicArray();
+        assertTrue(this.sut.isEmpty());
+        assertEquals(0, this.sut.size());
+        assertEquals(0, this.sut.capacity());
+    }
+
+    @Test
+    void addAndRemove() {
+        for (int i = 0; 10 > i; ++i) {
+            this.sut.append(i);
+        }
+        this.sut.add(0, -1);
+        this.sut.add(5, 100);
+        assertEquals(12, this.sut.size());
+        assertTrue(this.sut.size() <= this.sut.capacity());
+        assertArrayEquals(new int[]{-1, 0, 1, 2, 3, 100, 4, 5, 6, 7, 8, 9}, this.sut.slice(0, this.sut.size()));
+
+        assertEquals(100, this.sut.remove(5));
+        assertEquals(-1, this.sut.remove(0));
+        assertEquals(0, this.sut.replace(0, 42));
+        assertEquals(42, this.sut.get(0));
+        assertArrayEquals(new int[]{42, 1, 2}, this.sut.slice(0, 3));
+        assertEquals(10, this.sut.stream().count());
+
+        final var capacity = this.sut.capacity();
+        this.sut.clear();
+        assertTrue(this.sut.isEmpty());
+        assertEquals(capacity, this.sut.capacity());
+    }
+
+    @Test
+    void sortAndSearch() {
+        final var random = new Random(42);
+        final var expected = new int[5000];
+
+        for (int i = 0; expected.length > i; ++i) {
+            expected[i] = (0 == i % 3) ? random.nextInt() : random.nextInt(100) - 50;
+            this.sut.append(expected[i]);
+        }
+        this.sut.append(Integer.MIN_VALUE);
+        this.sut.append(Integer.MAX_VALUE);
+
+        this.sut.sort();
+        Arrays.sort(expected);
+        assertEquals(Integer.MIN_VALUE, this.sut.get(0));
+        assertEquals(Integer.MAX_VALUE, this.sut.get(this.sut.size() - 1));
+        assertArrayEquals(expected, this.sut.slice(1, this.sut.size() - 1));
+
+        for (final var value : expected) {
+            final var index = this.sut.binarySearch(value);
+            assertTrue(0 <= index);
+            assertEquals(value, this.sut.get(index));
+            assertTrue(0 == index || this.sut.get(index - 1) < value);
+        }
+
+        this.sut.clear();
+        this.sut.append(10);
+        this.sut.append(20);
+        assertEquals(-1, this.sut.binarySearch(5));
+        assertEquals(-2, this.sut.binarySearch(15));
+        assertEquals(-3, this.sut.binarySearch(25));
+    }
+}
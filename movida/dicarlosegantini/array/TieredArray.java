@@ -0,0 +1,472 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 - Davide Di Carlo, Andrea Segantini
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package movida.dicarlosegantini.array;
+
+import movida.dicarlosegantini.sort.IKeySort;
+import movida.dicarlosegantini.sort.ISort;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * A resizable array split in blocks of b items (tiered vector), with b about sqrt(n).
+ * Each block is a circular buffer and all the blocks, except the last one, are full: an insertion shifts the items
+ * of a single block, then moves one item from the end of each following block to the front of the next one.
+ * Removals do the opposite. Either way no more than O(b + n/b) items are moved, instead of O(n).
+ *
+ * @param <T> Type of the items in the array.
+ */
+public final class TieredArray<T> implements IArray<T> {
+    // Blocks are never smaller than 1 << MIN_SHIFT items.
+    private static final int MIN_SHIFT = 4;
+
+    private Object[][] blocks;
+    // Index, in its block, of the first item of each block.
+    private int[] heads;
+    // Blocks have 1 << shift items.
+    private int shift;
+    private int mask;
+    private int size;
+
+    /**
+     * Constructs an empty array.
+     */
+    public TieredArray() {
+        this.blocks = new Object[0][];
+        this.heads = new int[0];
+        this.shift = MIN_SHIFT;
+        this.mask = (1 << MIN_SHIFT) - 1;
+        this.size = 0;
+    }
+
+    // Smallest shift such that blocks of 1 << shift items are at least sqrt(n) long.
+    private static int shiftFor(final int n) {
+        final var log2 = 32 - Integer.numberOfLeadingZeros(Math.max(1, n - 1));
+        return Math.max(MIN_SHIFT, (log2 + 1) >>> 1);
+    }
+
+    private Object[] blockOf(final int index) {
+        return this.blocks[index >>> this.shift];
+    }
+
+    private int slotOf(final int index) {
+        return (this.heads[index >>> this.shift] + index) & this.mask;
+    }
+
+    /*
+     * Copies the items in a new array of exactly size items.
+     */
+    @SuppressWarnings("unchecked")
+    private T[] toArray() {
+        final var array = (T[]) new Object[this.size];
+        for (int i = 0; this.size > i; ++i) {
+            array[i] = this.get(i);
+        }
+
+        return array;
+    }
+
+    /*
+     * Replaces the items with the first length ones of array, placing them with all the heads at 0.
+     */
+    private void fill(final Object[] array, final int length) {
+        for (int b = 0, from = 0; from < length; ++b, from += this.mask + 1) {
+            final var count = Math.min(this.mask + 1, length - from);
+            System.arraycopy(array, from, this.blocks[b], 0, count);
+            Arrays.fill(this.blocks[b], count, this.mask + 1, null);
+            this.heads[b] = 0;
+        }
+    }
+
+    /*
+     * Moves the items in blocks of 1 << newShift items.
+     */
+    private void rebuild(final int newShift, final int minCapacity) {
+        final var items = this.toArray();
+
+        this.shift = newShift;
+        this.mask = (1 << newShift) - 1;
+        this.blocks = new Object[0][];
+        this.heads = new int[0];
+        this.reserveBlocks(minCapacity);
+        this.fill(items, items.length);
+    }
+
+    private void reserveBlocks(final int minCapacity) {
+        final var neededBlocks = (minCapacity + this.mask) >>> this.shift;
+
+        if (neededBlocks <= this.blocks.length) {
+            return;
+        }
+
+        // Like DynamicArray, more blocks than required are allocated.
+        final var newLength = Math.max(neededBlocks, (int) Math.ceil(this.blocks.length / 0.6));
+        final var oldLength = this.blocks.length;
+
+        this.blocks = Arrays.copyOf(this.blocks, newLength);
+        this.heads = Arrays.copyOf(this.heads, newLength);
+        for (int b = oldLength; newLength > b; ++b) {
+            this.blocks[b] = new Object[this.mask + 1];
+        }
+    }
+
+    /**
+     * If needed, expands the array to support at least additionalItems more.
+     * When the array grows past 4 * b^2 items, the blocks are rebuilt with b about sqrt(n).
+     * <p>
+     * <pre>
+     *                      Best      Worst
+     * Time complexity:     O(1)      O(n)
+     * Space complexity:    O(1)      O(n)
+     * </pre>
+     *
+     * @param additionalItems Minimum number of additional items that the array must be able to accommodate.
+     */
+    @Override
+    public void reserve(final int additionalItems) {
+        assert 0 <= additionalItems;
+
+        final var minCapacity = this.size + additionalItems;
+        final var blockSize = (long) this.mask + 1;
+
+        if (4 * blockSize * blockSize < minCapacity) {
+            this.rebuild(shiftFor(minCapacity), minCapacity);
+        } else {
+            this.reserveBlocks(minCapacity);
+        }
+    }
+
+    /**
+     * Adds the given item at the specified index of the array.
+     * <p>
+     * <pre>
+     * Time complexity: O(sqrt(n))
+     * </pre>
+     * <p>
+     *
+     * @param index The index where the item will be placed. Must be in range [0, size].
+     * @param item  The item to add in the array.
+     */
+    @Override
+    public void add(final int index, final T item) {
+        assert 0 <= index && index <= this.size;
+
+        this.reserve(1);
+
+        final var blockSize = this.mask + 1;
+        final var first = index >>> this.shift;
+        final var last = this.size >>> this.shift;
+
+        // The last item of each full block, from the last one, moves to the front of the following block.
+        for (int b = last; b > first; --b) {
+            final var previous = this.blocks[b - 1];
+            final var previousLast = (this.heads[b - 1] + this.mask) & this.mask;
+
+            this.heads[b] = (this.heads[b] - 1) & this.mask;
+            this.blocks[b][this.heads[b]] = previous[previousLast];
+            previous[previousLast] = null;
+        }
+
+        // Now the block of index has room for one more item.
+        final var block = this.blocks[first];
+        final var count = (first == last) ? this.size - (first << this.shift) : blockSize - 1;
+        final var offset = index & this.mask;
+
+        // Shifts the shorter side of the block.
+        if (offset < count - offset) {
+            this.heads[first] = (this.heads[first] - 1) & this.mask;
+            final var head = this.heads[first];
+
+            for (int i = 0; offset > i; ++i) {
+                block[(head + i) & this.mask] = block[(head + i + 1) & this.mask];
+            }
+        } else {
+            final var head = this.heads[first];
+
+            for (int i = count; offset < i; --i) {
+                block[(head + i) & this.mask] = block[(head + i - 1) & this.mask];
+            }
+        }
+
+        block[(this.heads[first] + offset) & this.mask] = item;
+        this.size += 1;
+    }
+
+    /**
+     * Removes the item at index from the array.
+     * <p>
+     * <pre>
+     * Time complexity: O(sqrt(n))
+     * </pre>
+     * <p>
+     *
+     * @param index The index of the item to remove.
+     * @return The removed item.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T remove(final int index) {
+        assert 0 <= index && index < this.size;
+
+        final var blockSize = this.mask + 1;
+        final var first = index >>> this.shift;
+        final var last = (this.size - 1) >>> this.shift;
+        final var block = this.blocks[first];
+        final var count = (first == last) ? this.size - (first << this.shift) : blockSize;
+        final var offset = index & this.mask;
+        final var head = this.heads[first];
+        final var item = (T) block[(head + offset) & this.mask];
+
+        // Shifts the shorter side of the block.
+        if (offset < count - 1 - offset) {
+            for (int i = offset; 0 < i; --i) {
+                block[(head + i) & this.mask] = block[(head + i - 1) & this.mask];
+            }
+
+            block[head] = null;
+            this.heads[first] = (head + 1) & this.mask;
+        } else {
+            for (int i = offset; count - 1 > i; ++i) {
+                block[(head + i) & this.mask] = block[(head + i + 1) & this.mask];
+            }
+
+            block[(head + count - 1) & this.mask] = null;
+        }
+
+        // The first item of each following block moves to the end of the previous block.
+        for (int b = first; last > b; ++b) {
+            final var next = this.blocks[b + 1];
+            final var nextHead = this.heads[b + 1];
+
+            this.blocks[b][(this.heads[b] + this.mask) & this.mask] = next[nextHead];
+            next[nextHead] = null;
+            this.heads[b + 1] = (nextHead + 1) & this.mask;
+        }
+
+        this.size -= 1;
+        return item;
+    }
+
+    /**
+     * Gets the item at given index of the array.
+     * <p>
+     * <pre>
+     * Time complexity: O(1)
+     * </pre>
+     * <p>
+     *
+     * @param index The index of the item to get.
+     * @return The item at specified index.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(final int index) {
+        assert 0 <= index && index < this.size;
+        return (T) this.blockOf(index)[this.slotOf(index)];
+    }
+
+    /**
+     * Replaces the item at given index of the array with the specified item.
+     * <p>
+     * <pre>
+     * Time complexity: O(1)
+     * </pre>
+     * <p>
+     *
+     * @param index The index of the item to replace.
+     * @param item  The new item which will replace the old one.
+     * @return The replaced item.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T replace(final int index, final T item) {
+        assert 0 <= index && index < this.size;
+
+        final var block = this.blockOf(index);
+        final var slot = this.slotOf(index);
+        final var oldItem = (T) block[slot];
+        block[slot] = item;
+        return oldItem;
+    }
+
+    /**
+     * Clears the array making it empty.
+     * <p>
+     * <pre>
+     * Time complexity: O(n)
+     * </pre>
+     * <p>
+     */
+    @Override
+    public void clear() {
+        // Used to release the references of the items in the array for the garbage collector.
+        for (int b = 0; this.blocks.length > b; ++b) {
+            Arrays.fill(this.blocks[b], null);
+            this.heads[b] = 0;
+        }
+
+        this.size = 0;
+    }
+
+    /**
+     * Streams the items in the array.
+     * <p>
+     * <pre>
+     * Time complexity: O(n)
+     * </pre>
+     * <p>
+     *
+     * @return The stream of items in the array.
+     */
+    @Override
+    public Stream<T> stream() {
+        return IntStream.range(0, this.size).mapToObj(this::get);
+    }
+
+    /**
+     * Performs the given action on each item of the array, in order.
+     * <p>
+     * <pre>
+     * Time complexity: O(n)
+     * </pre>
+     * <p>
+     *
+     * @param action The action to perform on each item.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(final Consumer<? super T> action) {
+        for (int b = 0, from = 0; this.size > from; ++b, from += this.mask + 1) {
+            final var block = this.blocks[b];
+            final var head = this.heads[b];
+            final var count = Math.min(this.mask + 1, this.size - from);
+
+            for (int i = 0; count > i; ++i) {
+                action.accept((T) block[(head + i) & this.mask]);
+            }
+        }
+    }
+
+    /*
+     * The items are sorted in a plain array, then placed back.
+     */
+    @Override
+    public void sort(final ISort sortingAlgorithm, final Comparator<T> comparator) {
+        final var array = this.toArray();
+        sortingAlgorithm.sort(array, comparator);
+        this.fill(array, array.length);
+    }
+
+    @Override
+    public void sortByKey(final IKeySort sortingAlgorithm, final ToIntFunction<T> key, final Comparator<T> tieBreak) {
+        final var array = this.toArray();
+        sortingAlgorithm.sortByKey(array, array.length, key, tieBreak);
+        this.fill(array, array.length);
+    }
+
+    /**
+     * Binary searches the given item in the array.
+     * <p>
+     * <pre>
+     * Time complexity: O(log(n))
+     * </pre>
+     * <p>
+     *
+     * @return <pre>
+     * present -> return the index of the item in the array (index is in range [0, size - 1]).
+     * absent  -> return the index in which the item would be placed in the array (index is in range [-1, -size]).
+     * <\pre>
+     * @implNote The array must be already sorted using the same comparator function otherwise is UB.
+     */
+    @Override
+    public int binarySearch(final T item, final Comparator<T> comparator) {
+        return BinarySearch.search(this::get, 0, this.size, item, comparator);
+    }
+
+    /**
+     * Returns a slice of the array.
+     * <p>
+     * <pre>
+     * Time complexity: O(m) where m is the length of the slice.
+     * </pre>
+     * <p>
+     *
+     * @param sliceBuilder Function that given an int returns a T[] of the given dimension.
+     * @param from         Start index (inclusive) of the array (start of the slice).
+     * @param to           End index (exclusive) of the array (end of the slice).
+     * @return The slice of the array.
+     */
+    @Override
+    public T[] slice(final IntFunction<T[]> sliceBuilder, final int from, final int to) {
+        assert 0 <= from;
+        assert from <= to;
+        assert to <= this.size;
+
+        final var sliceArray = sliceBuilder.apply(to - from);
+        for (int i = from; to > i; ++i) {
+            sliceArray[i - from] = this.get(i);
+        }
+
+        return sliceArray;
+    }
+
+    /**
+     * Gets the capacity of the array.
+     * <p>
+     * <pre>
+     * Time complexity: O(1)
+     * </pre>
+     * <p>
+     *
+     * @return The capacity of the array.
+     */
+    @Override
+    public int capacity() {
+        return this.blocks.length << this.shift;
+    }
+
+    /**
+     * Gets the size of the array.
+     * <p>
+     * <pre>
+     * Time complexity: O(1)
+     * </pre>
+     * <p>
+     *
+     * @return The size of the array.
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+}
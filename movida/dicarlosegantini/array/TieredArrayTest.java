@@ -0,0 +1,155 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 - Davide Di Carlo, Andrea Segantini
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package movida.dicarlosegantini.array;
+
+import movida.dicarlosegantini.sort.QuickSort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TieredArrayTest {
+    TieredArray<Integer> sut = null;
+
+    void assertSameItems(final ArrayList<Integer> expected) {
+        assertEquals(expected.size(), this.sut.size());
+        assertTrue(this.sut.size() <= this.sut.capacity());
+        assertArrayEquals(expected.toArray(Integer[]::new), this.sut.stream().toArray(Integer[]::new));
+    }
+
+    @BeforeEach
+    void setUp() {
+        this.sut = new TieredArray<>();
+        assertTrue(this.sut.isEmpty());
+        assertEquals(0, this.sut.size());
+        assertEquals(0, this.sut.capacity());
+    }
+
+    @Test
+    void addAndRemove() {
+        final var random = new Random(42);
+        final var expected = new ArrayList<Integer>();
+
+        // grows past a few rebuilds of the blocks, then shrinks back to empty
+        for (int i = 0; 20000 > i; ++i) {
+            final var index = random.nextInt(expected.size() + 1);
+            expected.add(index, i);
+            this.sut.add(index, i);
+
+            if (0 == i % 3) {
+                final var removed = random.nextInt(expected.size());
+                assertEquals(expected.remove(removed), this.sut.remove(removed));
+            }
+        }
+        this.assertSameItems(expected);
+
+        while (!expected.isEmpty()) {
+            final var removed = random.nextInt(expected.size());
+            assertEquals(expected.remove(removed), this.sut.remove(removed));
+        }
+        this.assertSameItems(expected);
+    }
+
+    @Test
+    void forEach() {
+        for (int i = 0; 1000 > i; ++i) {
+            this.sut.add(0, i);
+        }
+        this.sut.remove(500);
+
+        final var items = new ArrayList<Integer>();
+        this.sut.forEach(items::add);
+        assertEquals(this.sut.stream().collect(Collectors.toList()), items);
+    }
+
+    @Test
+    void getAndReplace() {
+        for (int i = 0; 1000 > i; ++i) {
+            this.sut.add(0, i);
+        }
+
+        for (int i = 0; 1000 > i; ++i) {
+            assertEquals(999 - i, this.sut.get(i));
+            assertEquals(999 - i, this.sut.replace(i, i));
+            assertEquals(i, this.sut.get(i));
+        }
+
+        assertArrayEquals(new Integer[]{10, 11, 12}, this.sut.slice(Integer[]::new, 10, 13));
+    }
+
+    @Test
+    void binaryInsertAndRemove() {
+        final var random = new Random(42);
+        final var expected = new ArrayList<Integer>();
+
+        for (int i = 0; 5000 > i; ++i) {
+            final var item = random.nextInt(10000);
+            assertEquals(!expected.contains(item), this.sut.binaryInsert(item, Integer::compareTo));
+            if (!expected.contains(item)) {
+                expected.add(item);
+            }
+        }
+
+        expected.sort(Comparator.naturalOrder());
+        this.assertSameItems(expected);
+
+        for (int i = 0; 10000 > i; i += 2) {
+            assertEquals(expected.remove((Integer) i), this.sut.binaryRemove(i, Integer::compareTo));
+        }
+        this.assertSameItems(expected);
+    }
+
+    @Test
+    void sortAndClear() {
+        final var random = new Random(42);
+        final var expected = new ArrayList<Integer>();
+
+        for (int i = 0; 3000 > i; ++i) {
+            final var item = random.nextInt();
+            expected.add(item);
+            this.sut.append(item);
+        }
+
+        expected.sort(Comparator.naturalOrder());
+        this.sut.sort(QuickSort.getInstance(), Integer::compareTo);
+        this.assertSameItems(expected);
+
+        final var capacity = this.sut.capacity();
+        this.sut.clear();
+        assertTrue(this.sut.isEmpty());
+        assertEquals(capacity, this.sut.capacity());
+
+        this.sut.append(1);
+        assertEquals(1, this.sut.get(0));
+    }
+}
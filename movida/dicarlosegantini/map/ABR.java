@@ -0,0 +1,386 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 - Davide Di Carlo, Andrea Segantini
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package movida.dicarlosegantini.map;
+
+import movida.dicarlosegantini.Entry;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * A map implementation using a binary search tree (albero binario di ricerca).
+ * <p>
+ * To avoid degenerating into a list when the keys are inserted in order, every node gets a random priority
+ * and the tree is kept heap-ordered on the priorities (treap), so its shape is the same of a tree built
+ * inserting the keys in random order and its expected height is O(log(n)).
+ * Compared to AVL, the priority of a node never changes, so updates only rotate and never recompute heights.
+ *
+ * @param <K> Type of the keys, must be comparable.
+ * @param <V> Type of the values.
+ */
+public final class ABR<K extends Comparable<K>, V> implements IMap<K, V> {
+    private Node<K, V> root;
+    private int size;
+
+    public ABR() {
+        this.root = null;
+        this.size = 0;
+    }
+
+    /**
+     * Makes an ABR from another map.
+     * <p>
+     * <pre>
+     * Time complexity: O(n*log(n)) expected
+     * </pre>
+     * <p>
+     *
+     * @param map  The instance of another map.
+     * @param <K1> The type of the keys, must be comparable.
+     * @param <V1> The type of the values.
+     * @return An ABR made from the specified map.
+     */
+    public static <K1 extends Comparable<K1>, V1> IMap<K1, V1> from(final IMap<K1, V1> map) {
+        final var newInstance = new ABR<K1, V1>();
+        map.forEach(newInstance::add);
+        return newInstance;
+    }
+
+    /**
+     * Adds a value into the map, with the specified key.
+     * <p>
+     * <pre>
+     * Time complexity: O(log(n)) expected
+     * </pre>
+     * <p>
+     *
+     * @param key   The key associated to the value to add.
+     * @param value The value to add.
+     * @return if there where already a value associated with the specified key, it returns its value, otherwise null.
+     */
+    @Override
+    public V add(final K key, final V value) {
+        assert null != key;
+        assert null != value;
+        final var node = BinaryNode.find(this.root, key);
+
+        if (null != node) {
+            final var oldValue = node.value;
+            node.value = value;
+            return oldValue;
+        }
+
+        this.root = this.insert(this.root, key, value);
+        this.size += 1;
+
+        return null;
+    }
+
+    /**
+     * Gets the value with the specified key if present, otherwise it adds it.
+     * <p>
+     * <pre>
+     * Time complexity: O(log(n)) expected
+     * </pre>
+     * <p>
+     *
+     * @param key      The key associated to the value to get.
+     * @param supplier The function used to create the value if not present in the map.
+     * @return The value associated with the specified key if present, the supplied value otherwise.
+     */
+    @Override
+    public V getOrAdd(final K key, final Supplier<V> supplier) {
+        assert null != key;
+        final var node = BinaryNode.find(this.root, key);
+
+        if (null != node) {
+            return node.value;
+        }
+
+        final var value = supplier.get();
+        assert null != value;
+
+        this.root = this.insert(this.root, key, value);
+        this.size += 1;
+
+        return value;
+    }
+
+    /**
+     * Gets the value with the specified key, null otherwise.
+     * <p>
+     * <pre>
+     * Time complexity: O(log(n)) expected
+     * </pre>
+     * <p>
+     *
+     * @param key The key associated to the value to get.
+     * @return The value associated with the specified key if present, null otherwise.
+     */
+    @Override
+    public V get(final K key) {
+        assert null != key;
+        final var node = BinaryNode.find(this.root, key);
+        return (null != node) ? node.value : null;
+    }
+
+    /**
+     * Removes the value with the specified key.
+     * <p>
+     * <pre>
+     * Time complexity: O(log(n)) expected
+     * </pre>
+     * <p>
+     *
+     * @param key The key associated to the value to remove.
+     * @return The removed value if present, null otherwise.
+     */
+    @Override
+    public V remove(final K key) {
+        assert null != key;
+        final var node = BinaryNode.find(this.root, key);
+
+        if (null == node) {
+            return null;
+        }
+
+        final var value = node.value;
+        this.root = this.delete(this.root, key);
+        this.size -= 1;
+
+        return value;
+    }
+
+    /**
+     * Checks If the specified key is in the map.
+     * <p>
+     * <pre>
+     * Time complexity: O(log(n)) expected
+     * </pre>
+     * <p>
+     *
+     * @param key The key to search in the map.
+     * @return True if the key is found, false otherwise.
+     */
+    @Override
+    public boolean has(final K key) {
+        assert null != key;
+        return null != BinaryNode.find(this.root, key);
+    }
+
+    /**
+     * Steams the keys of the map in ascending order.
+     * <p>
+     * <pre>
+     * Time complexity: O(n)
+     * </pre>
+     * <p>
+     *
+     * @return A stream of the keys in the map.
+     */
+    @Override
+    public Stream<K> keys() {
+        return BinaryNode.stream(this.root, this.size).map(n -> n.key);
+    }
+
+    /**
+     * Steams the values of the map, ordered by their keys.
+     * <p>
+     * <pre>
+     * Time complexity: O(n)
+     * </pre>
+     * <p>
+     *
+     * @return A stream of the values in the map.
+     */
+    @Override
+    public Stream<V> values() {
+        return BinaryNode.stream(this.root, this.size).map(n -> n.value);
+    }
+
+    /**
+     * Streams the pairs key-value of the map, ordered by their keys.
+     * <p>
+     * <pre>
+     * Time complexity: O(n)
+     * </pre>
+     * <p>
+     *
+     * @return A stream of entries made of the key-value pairs.
+     */
+    @Override
+    public Stream<Entry<K, V>> stream() {
+        return BinaryNode.stream(this.root, this.size).map(n -> new Entry<>(n.key, n.value));
+    }
+
+    /**
+     * Performs the given action on each pair key-value of the map, ordered by their keys,
+     * without allocating an entry for each one.
+     * <p>
+     * <pre>
+     * Time complexity: O(n)
+     * </pre>
+     * <p>
+     *
+     * @param action The action to perform on each key and value.
+     */
+    @Override
+    public void forEach(final BiConsumer<? super K, ? super V> action) {
+        BinaryNode.forEach(this.root, action);
+    }
+
+    /**
+     * Nodes are allocated on demand, so there is nothing to reserve.
+     * <p>
+     * <pre>
+     * Time complexity: O(1)
+     * </pre>
+     * <p>
+     *
+     * @param additionalItems Minimum number of additional items that the map must be able to accommodate.
+     */
+    @Override
+    public void reserve(final int additionalItems) {
+        assert 0 <= additionalItems;
+    }
+
+    /**
+     * Gets the capacity of the map, which for a tree is always equal to its size.
+     * <p>
+     * <pre>
+     * Time complexity: O(1)
+     * </pre>
+     * <p>
+     *
+     * @return The capacity of the map.
+     */
+    @Override
+    public int capacity() {
+        return this.size;
+    }
+
+    /**
+     * Gets the size of the map.
+     * <p>
+     * <pre>
+     * Time complexity: O(1)
+     * </pre>
+     * <p>
+     *
+     * @return The size of the map.
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Clears the map making it empty.
+     * <p>
+     * <pre>
+     * Time complexity: O(1)
+     * </pre>
+     * <p>
+     */
+    @Override
+    public void clear() {
+        this.root = null;
+        this.size = 0;
+    }
+
+    /*
+     * Inserts a new node in the subtree rooted in node and returns the new root of the subtree.
+     * The new node is added as a leaf and then rotated up while its priority is greater than its parent's.
+     *
+     * Note: the key must not be already in the subtree.
+     * Time complexity: O(log(n)) expected
+     */
+    private Node<K, V> insert(final Node<K, V> node, final K key, final V value) {
+        if (null == node) {
+            return new Node<>(key, value, ThreadLocalRandom.current().nextInt());
+        }
+
+        if (0 > key.compareTo(node.key)) {
+            node.left = this.insert(node.left, key, value);
+            return (node.left.priority > node.priority) ? BinaryNode.rotateRight(node) : node;
+        }
+
+        node.right = this.insert(node.right, key, value);
+        return (node.right.priority > node.priority) ? BinaryNode.rotateLeft(node) : node;
+    }
+
+    /*
+     * Deletes the node with the specified key from the subtree rooted in node
+     * and returns the new root of the subtree.
+     * The node is rotated down, on the side of the child with the lower priority, until it has at most one child.
+     *
+     * Note: the key must be in the subtree.
+     * Time complexity: O(log(n)) expected
+     */
+    private Node<K, V> delete(final Node<K, V> node, final K key) {
+        assert null != node;
+        final var cmp = key.compareTo(node.key);
+
+        if (0 > cmp) {
+            node.left = this.delete(node.left, key);
+            return node;
+        }
+        if (0 < cmp) {
+            node.right = this.delete(node.right, key);
+            return node;
+        }
+
+        if (null == node.left) {
+            return node.right;
+        }
+        if (null == node.right) {
+            return node.left;
+        }
+
+        if (node.left.priority > node.right.priority) {
+            final var newRoot = BinaryNode.rotateRight(node);
+            newRoot.right = this.delete(node, key);
+            return newRoot;
+        }
+
+        final var newRoot = BinaryNode.rotateLeft(node);
+        newRoot.left = this.delete(node, key);
+        return newRoot;
+    }
+
+    private static final class Node<K, V> extends BinaryNode<K, V, Node<K, V>> {
+        final int priority;
+
+        Node(final K key, final V value, final int priority) {
+            super(key, value);
+            this.priority = priority;
+        }
+    }
+}
@@ -0,0 +1,436 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 - Davide Di Carlo, Andrea Segantini
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package movida.dicarlosegantini.map;
+
+import movida.dicarlosegantini.Entry;
+import movida.dicarlosegantini.array.BinarySearch;
+
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * A map implementation using a 2-3 tree.
+ * <p>
+ * Every internal node has either one key and two children or two keys and three children,
+ * and all the leaves are at the same depth, so the height of the tree is always O(log(n)).
+ *
+ * @param <K> Type of the keys, must be comparable.
+ * @param <V> Type of the values.
+ */
+public final class Alberi23<K extends Comparable<K>, V> implements IMap<K, V> {
+    // A node temporarily holds three keys (and four children) before being split.
+    private static final int OVERFLOW = 3;
+
+    private MultiwayNode<K, V> root;
+    private int size;
+
+    public Alberi23() {
+        this.root = null;
+        this.size = 0;
+    }
+
+    /**
+     * Makes an Alberi23 from another map.
+     * <p>
+     * <pre>
+     * Time complexity: O(n*log(n))
+     * </pre>
+     * <p>
+     *
+     * @param map  The instance of another map.
+     * @param <K1> The type of the keys, must be comparable.
+     * @param <V1> The type of the values.
+     * @return An Alberi23 made from the specified map.
+     */
+    public static <K1 extends Comparable<K1>, V1> IMap<K1, V1> from(final IMap<K1, V1> map) {
+        final var newInstance = new Alberi23<K1, V1>();
+        map.forEach(newInstance::add);
+        return newInstance;
+    }
+
+    /**
+     * Adds a value into the map, with the specified key.
+     * <p>
+     * <pre>
+     * Time complexity: O(log(n))
+     * </pre>
+     * <p>
+     *
+     * @param key   The key associated to the value to add.
+     * @param value The value to add.
+     * @return if there where already a value associated with the specified key, it returns its value, otherwise null.
+     */
+    @Override
+    public V add(final K key, final V value) {
+        assert null != key;
+        assert null != value;
+        final var oldValue = MultiwayNode.find(this.root, key, value);
+
+        if (null == oldValue) {
+            this.insert(key, value);
+        }
+
+        return oldValue;
+    }
+
+    /**
+     * Gets the value with the specified key if present, otherwise it adds it.
+     * <p>
+     * <pre>
+     * Time complexity: O(log(n))
+     * </pre>
+     * <p>
+     *
+     * @param key      The key associated to the value to get.
+     * @param supplier The function used to create the value if not present in the map.
+     * @return The value associated with the specified key if present, the supplied value otherwise.
+     */
+    @Override
+    public V getOrAdd(final K key, final Supplier<V> supplier) {
+        assert null != key;
+        final var oldValue = MultiwayNode.find(this.root, key, null);
+
+        if (null != oldValue) {
+            return oldValue;
+        }
+
+        final var value = supplier.get();
+        assert null != value;
+        this.insert(key, value);
+
+        return value;
+    }
+
+    /**
+     * Gets the value with the specified key, null otherwise.
+     * <p>
+     * <pre>
+     * Time complexity: O(log(n))
+     * </pre>
+     * <p>
+     *
+     * @param key The key associated to the value to get.
+     * @return The value associated with the specified key if present, null otherwise.
+     */
+    @Override
+    public V get(final K key) {
+        assert null != key;
+        return MultiwayNode.find(this.root, key, null);
+    }
+
+    /**
+     * Removes the value with the specified key.
+     * <p>
+     * <pre>
+     * Time complexity: O(log(n))
+     * </pre>
+     * <p>
+     *
+     * @param key The key associated to the value to remove.
+     * @return The removed value if present, null otherwise.
+     */
+    @Override
+    public V remove(final K key) {
+        assert null != key;
+        final var value = MultiwayNode.find(this.root, key, null);
+
+        if (null == value) {
+            return null;
+        }
+
+        this.delete(this.root, key);
+        this.size -= 1;
+
+        if (0 == this.root.count) {
+            // The height of the tree decreases when the root loses its last key.
+            this.root = this.root.isLeaf() ? null : this.root.children[0];
+        }
+
+        return value;
+    }
+
+    /**
+     * Checks If the specified key is in the map.
+     * <p>
+     * <pre>
+     * Time complexity: O(log(n))
+     * </pre>
+     * <p>
+     *
+     * @param key The key to search in the map.
+     * @return True if the key is found, false otherwise.
+     */
+    @Override
+    public boolean has(final K key) {
+        assert null != key;
+        return null != MultiwayNode.find(this.root, key, null);
+    }
+
+    /**
+     * Steams the keys of the map in ascending order.
+     * <p>
+     * <pre>
+     * Time complexity: O(n)
+     * </pre>
+     * <p>
+     *
+     * @return A stream of the keys in the map.
+     */
+    @Override
+    public Stream<K> keys() {
+        return MultiwayNode.stream(this.root, this.size, (node, index) -> node.keys[index]);
+    }
+
+    /**
+     * Steams the values of the map, ordered by their keys.
+     * <p>
+     * <pre>
+     * Time complexity: O(n)
+     * </pre>
+     * <p>
+     *
+     * @return A stream of the values in the map.
+     */
+    @Override
+    public Stream<V> values() {
+        return MultiwayNode.stream(this.root, this.size, (node, index) -> node.values[index]);
+    }
+
+    /**
+     * Streams the pairs key-value of the map, ordered by their keys.
+     * <p>
+     * <pre>
+     * Time complexity: O(n)
+     * </pre>
+     * <p>
+     *
+     * @return A stream of entries made of the key-value pairs.
+     */
+    @Override
+    public Stream<Entry<K, V>> stream() {
+        return MultiwayNode.stream(this.root, this.size, (node, index) -> new Entry<>(node.keys[index], node.values[index]));
+    }
+
+    /**
+     * Performs the given action on each pair key-value of the map, ordered by their keys,
+     * without allocating an entry for each one.
+     * <p>
+     * <pre>
+     * Time complexity: O(n)
+     * </pre>
+     * <p>
+     *
+     * @param action The action to perform on each key and value.
+     */
+    @Override
+    public void forEach(final BiConsumer<? super K, ? super V> action) {
+        if (null != this.root) {
+            MultiwayNode.forEach(this.root, action);
+        }
+    }
+
+    /**
+     * Nodes are allocated on demand, so there is nothing to reserve.
+     * <p>
+     * <pre>
+     * Time complexity: O(1)
+     * </pre>
+     * <p>
+     *
+     * @param additionalItems Minimum number of additional items that the map must be able to accommodate.
+     */
+    @Override
+    public void reserve(final int additionalItems) {
+        assert 0 <= additionalItems;
+    }
+
+    /**
+     * Gets the capacity of the map, which for a tree is always equal to its size.
+     * <p>
+     * <pre>
+     * Time complexity: O(1)
+     * </pre>
+     * <p>
+     *
+     * @return The capacity of the map.
+     */
+    @Override
+    public int capacity() {
+        return this.size;
+    }
+
+    /**
+     * Gets the size of the map.
+     * <p>
+     * <pre>
+     * Time complexity: O(1)
+     * </pre>
+     * <p>
+     *
+     * @return The size of the map.
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Clears the map making it empty.
+     * <p>
+     * <pre>
+     * Time complexity: O(1)
+     * </pre>
+     * <p>
+     */
+    @Override
+    public void clear() {
+        this.root = null;
+        this.size = 0;
+    }
+
+    /*
+     * Inserts a key not already in the tree.
+     *
+     * Time complexity: O(log(n))
+     */
+    private void insert(final K key, final V value) {
+        if (null == this.root) {
+            this.root = new MultiwayNode<>(OVERFLOW, true);
+        }
+
+        this.insert(this.root, key, value);
+
+        if (OVERFLOW == this.root.count) {
+            // The height of the tree increases when the root is split.
+            final var newRoot = new MultiwayNode<K, V>(OVERFLOW, false);
+            newRoot.children[0] = this.root;
+            split(newRoot, 0);
+            this.root = newRoot;
+        }
+
+        this.size += 1;
+    }
+
+    /*
+     * Inserts a key in the subtree rooted in node, splitting the overflowed nodes on the way back up.
+     * After the call node may hold three keys, in that case the caller must split it.
+     *
+     * Time complexity: O(log(n))
+     */
+    private void insert(final MultiwayNode<K, V> node, final K key, final V value) {
+        final var index = -(BinarySearch.search(node.keys, 0, node.count, key) + 1);
+        assert 0 <= index;
+
+        if (node.isLeaf()) {
+            node.insertAt(index, key, value, null);
+            return;
+        }
+
+        final var child = node.children[index];
+        this.insert(child, key, value);
+
+        if (OVERFLOW == child.count) {
+            split(node, index);
+        }
+    }
+
+    /*
+     * Splits the overflowed child at index of parent in two nodes, moving its middle key into the parent.
+     *
+     * Time complexity: O(1)
+     */
+    private static <K, V> void split(final MultiwayNode<K, V> parent, final int index) {
+        final var child = parent.children[index];
+        final var sibling = new MultiwayNode<K, V>(OVERFLOW, child.isLeaf());
+
+        sibling.keys[0] = child.keys[2];
+        sibling.values[0] = child.values[2];
+        if (!child.isLeaf()) {
+            sibling.children[0] = child.children[2];
+            sibling.children[1] = child.children[3];
+        }
+        sibling.count = 1;
+
+        parent.insertAt(index, child.keys[1], child.values[1], sibling);
+        child.truncate(1);
+    }
+
+    /*
+     * Deletes a key which is in the subtree rooted in node.
+     * After the call node may hold no keys, in that case the caller must fix it.
+     *
+     * Time complexity: O(log(n))
+     */
+    private void delete(final MultiwayNode<K, V> node, final K key) {
+        final var found = BinarySearch.search(node.keys, 0, node.count, key);
+
+        if (node.isLeaf()) {
+            assert 0 <= found;
+            node.removeAt(found, false);
+            return;
+        }
+
+        final int index;
+        if (0 <= found) {
+            // Replaces the key with its predecessor and deletes the predecessor from the left subtree.
+            var predecessor = node.children[found];
+            while (!predecessor.isLeaf()) {
+                predecessor = predecessor.children[predecessor.count];
+            }
+
+            node.keys[found] = predecessor.keys[predecessor.count - 1];
+            node.values[found] = predecessor.values[predecessor.count - 1];
+            index = found;
+            this.delete(node.children[index], node.keys[found]);
+        } else {
+            index = -(found + 1);
+            this.delete(node.children[index], key);
+        }
+
+        if (0 == node.children[index].count) {
+            fixUnderflow(node, index);
+        }
+    }
+
+    /*
+     * Fixes the child at index of parent which has no keys, borrowing a key from a sibling with two keys,
+     * or merging the child with a sibling otherwise.
+     *
+     * Time complexity: O(1)
+     */
+    private static <K, V> void fixUnderflow(final MultiwayNode<K, V> parent, final int index) {
+        if (0 < index && 2 == parent.children[index - 1].count) {
+            parent.rotateRight(index - 1);
+        } else if (parent.count > index && 2 == parent.children[index + 1].count) {
+            parent.rotateLeft(index);
+        } else {
+            parent.merge((0 < index) ? index - 1 : index);
+        }
+    }
+}
@@ -28,32 +28,45 @@
 package movida.dicarlosegantini.map;
 
 import movida.dicarlosegantini.Entry;
-import movida.dicarlosegantini.array.DynamicArray;
+import movida.dicarlosegantini.array.EytzingerArray;
+import movida.dicarlosegantini.array.IArray;
+import movida.dicarlosegantini.array.TieredArray;
+import movida.dicarlosegantini.sort.TimSort;
 
+import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
  * A map implementation using an ordered array.
+ * The keys and the values are stored in TieredArrays, so adding or removing a key shifts O(sqrt(n)) items.
  *
  * @param <K> Type of the keys, must be comparable.
  * @param <V> Type of the values.
  */
 public final class ArrayOrdinato<K extends Comparable<K>, V> implements IMap<K, V> {
-    private final DynamicArray<V> values;
-    private final DynamicArray<K> keys;
+    private final IArray<V> values;
+    private final IArray<K> keys;
+    // Copy of the keys in Eytzinger layout, null unless the map is frozen.
+    private EytzingerArray<K> frozenKeys;
 
     public ArrayOrdinato() {
-        this.values = new DynamicArray<>();
-        this.keys = new DynamicArray<>();
+        this.values = new TieredArray<>();
+        this.keys = new TieredArray<>();
+        this.frozenKeys = null;
     }
 
     /**
      * Makes an ArrayOrdinato from another map.
+     * The pairs are collected in an array, sorted once with Timsort and appended, instead of being added one by one.
      * <p>
      * <pre>
-     * Time complexity: O(n)
+     *                  worst           best
+     * Time complexity: O(n*log(n))     O(n)
+     *
+     * Worst case: when the keys of the other map are not streamed in order and must be sorted.
+     * Best case: when the keys of the other map are already streamed in order.
      * </pre>
      * <p>
      *
@@ -63,19 +76,103 @@ public final class ArrayOrdinato<K extends Comparable<K>, V> implements IMap<K,
      * @return An ArrayOrdinato made from the specified map.
      */
     public static <K1 extends Comparable<K1>, V1> IMap<K1, V1> from(final IMap<K1, V1> map) {
+        final var collector = new EntryCollector<K1, V1>(map.size());
+        map.forEach(collector);
+        return bulkLoad(collector.entries);
+    }
+
+    /**
+     * Makes an ArrayOrdinato from a stream of entries, in any order.
+     * When a key is repeated, the map holds its last value, as if the entries were added one by one.
+     * <p>
+     * <pre>
+     *                  worst           best
+     * Time complexity: O(n*log(n))     O(n)
+     *
+     * Worst case: when the entries are not sorted by key.
+     * Best case: when the entries are already sorted by key.
+     * </pre>
+     * <p>
+     *
+     * @param entries The entries to put in the map.
+     * @param <K1>    The type of the keys, must be comparable.
+     * @param <V1>    The type of the values.
+     * @return An ArrayOrdinato made from the specified entries.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K1 extends Comparable<K1>, V1> IMap<K1, V1> fromEntries(final Stream<Entry<K1, V1>> entries) {
+        return bulkLoad((Entry<K1, V1>[]) entries.toArray(Entry<?, ?>[]::new));
+    }
+
+    /*
+     * Sorts the entries by key, keeping only the last value of each key, and appends them.
+     * Timsort is stable, so the entries with equal keys keep the order they were given in, and linear on entries
+     * already sorted by key.
+     */
+    private static <K1 extends Comparable<K1>, V1> ArrayOrdinato<K1, V1> bulkLoad(final Entry<K1, V1>[] entries) {
+        TimSort.getInstance().sort(entries, (x, y) -> x.key.compareTo(y.key));
+
         final var newInstance = new ArrayOrdinato<K1, V1>();
-        newInstance.reserve(map.size());
-        map.stream().forEach(e -> newInstance.add(e.key, e.value));
+        newInstance.reserve(entries.length);
+
+        for (int i = 0; entries.length > i; ++i) {
+            if (entries.length == i + 1 || 0 != entries[i].key.compareTo(entries[i + 1].key)) {
+                newInstance.keys.append(entries[i].key);
+                newInstance.values.append(entries[i].value);
+            }
+        }
+
         return newInstance;
     }
 
+    // Collects the pairs visited by IMap.forEach in an array of the given length.
+    private static final class EntryCollector<K1, V1> implements BiConsumer<K1, V1> {
+        private final Entry<K1, V1>[] entries;
+        private int length;
+
+        @SuppressWarnings("unchecked")
+        EntryCollector(final int length) {
+            this.entries = (Entry<K1, V1>[]) new Entry<?, ?>[length];
+            this.length = 0;
+        }
+
+        @Override
+        public void accept(final K1 key, final V1 value) {
+            this.entries[this.length++] = new Entry<>(key, value);
+        }
+    }
+
+    private int indexOf(final K key) {
+        return (null != this.frozenKeys)
+                ? this.frozenKeys.search(key, K::compareTo)
+                : this.keys.binarySearch(key, K::compareTo);
+    }
+
     /**
-     * Adds a value into the map, with the specified key.
+     * Freezes the current keys of the map: until the next change of the keys, they are searched in a copy laid out in
+     * Eytzinger order, which is faster than binary search on large maps.
+     * Replacing the value of a key keeps the map frozen, adding or removing keys unfreezes it.
      * <p>
      * <pre>
      * Time complexity: O(n)
      * </pre>
      * <p>
+     */
+    public void freeze() {
+        this.frozenKeys = new EytzingerArray<>(this.keys::get, this.keys.size());
+    }
+
+    public boolean isFrozen() {
+        return null != this.frozenKeys;
+    }
+
+    /**
+     * Adds a value into the map, with the specified key.
+     * <p>
+     * <pre>
+     * Time complexity: O(sqrt(n))
+     * </pre>
+     * <p>
      *
      * @param key   The key associated to the value to add.
      * @param value The value to add.
@@ -85,13 +182,14 @@ public final class ArrayOrdinato<K extends Comparable<K>, V> implements IMap<K,
     public V add(final K key, final V value) {
         assert null != key;
         assert null != value;
-        var index = this.keys.binarySearch(key, K::compareTo);
+        var index = this.indexOf(key);
 
         if (0 <= index) {
             return this.values.replace(index, value);
         }
 
         index = -(index + 1);
+        this.frozenKeys = null;
         this.keys.add(index, key);
         this.values.add(index, value);
 
@@ -102,8 +200,8 @@ public final class ArrayOrdinato<K extends Comparable<K>, V> implements IMap<K,
      * Gets the value with the specified key if present, otherwise it adds it.
      * <p>
      * <pre>
-     *                  worst                  best
-     * Time complexity: O(n) -> due to add     O(log(n))
+     *                  worst                        best
+     * Time complexity: O(sqrt(n)) -> due to add     O(log(n))
      * </pre>
      * <p>
      *
@@ -114,7 +212,7 @@ public final class ArrayOrdinato<K extends Comparable<K>, V> implements IMap<K,
     @Override
     public V getOrAdd(final K key, final Supplier<V> supplier) {
         assert null != key;
-        var index = this.keys.binarySearch(key, K::compareTo);
+        var index = this.indexOf(key);
 
         if (0 <= index) {
             return this.values.get(index);
@@ -124,6 +222,7 @@ public final class ArrayOrdinato<K extends Comparable<K>, V> implements IMap<K,
         assert null != value;
 
         index = -(index + 1);
+        this.frozenKeys = null;
         this.keys.add(index, key);
         this.values.add(index, value);
 
@@ -144,7 +243,7 @@ public final class ArrayOrdinato<K extends Comparable<K>, V> implements IMap<K,
     @Override
     public V get(final K key) {
         assert null != key;
-        final var index = this.keys.binarySearch(key, K::compareTo);
+        final var index = this.indexOf(key);
         return (0 <= index) ? this.values.get(index) : null;
     }
 
@@ -152,7 +251,7 @@ public final class ArrayOrdinato<K extends Comparable<K>, V> implements IMap<K,
      * Removes the value with the specified key.
      * <p>
      * <pre>
-     * Time complexity: O(n)
+     * Time complexity: O(sqrt(n))
      * </pre>
      * <p>
      *
@@ -162,12 +261,13 @@ public final class ArrayOrdinato<K extends Comparable<K>, V> implements IMap<K,
     @Override
     public V remove(final K key) {
         assert null != key;
-        final var index = this.keys.binarySearch(key, K::compareTo);
+        final var index = this.indexOf(key);
 
         if (0 > index) {
             return null;
         }
 
+        this.frozenKeys = null;
         this.keys.remove(index);
         return this.values.remove(index);
     }
@@ -186,7 +286,7 @@ public final class ArrayOrdinato<K extends Comparable<K>, V> implements IMap<K,
     @Override
     public boolean has(final K key) {
         assert null != key;
-        return 0 <= this.keys.binarySearch(key, K::compareTo);
+        return 0 <= this.indexOf(key);
     }
 
     /**
@@ -234,6 +334,24 @@ public final class ArrayOrdinato<K extends Comparable<K>, V> implements IMap<K,
         return IntStream.range(0, this.size()).mapToObj(i -> new Entry<>(this.keys.get(i), this.values.get(i)));
     }
 
+    /**
+     * Performs the given action on each pair key-value of the map, ordered by their keys,
+     * without allocating an entry for each one.
+     * <p>
+     * <pre>
+     * Time complexity: O(n)
+     * </pre>
+     * <p>
+     *
+     * @param action The action to perform on each key and value.
+     */
+    @Override
+    public void forEach(final BiConsumer<? super K, ? super V> action) {
+        for (int i = 0; this.keys.size() > i; ++i) {
+            action.accept(this.keys.get(i), this.values.get(i));
+        }
+    }
+
     /**
      * If needed, expands the map to support at least additionalItems more.
      * <p>
@@ -291,6 +409,7 @@ public final class ArrayOrdinato<K extends Comparable<K>, V> implements IMap<K,
      */
     @Override
     public void clear() {
+        this.frozenKeys = null;
         this.values.clear();
         this.keys.clear();
     }
@@ -0,0 +1,584 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 - Davide Di Carlo, Andrea Segantini
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package movida.dicarlosegantini.map;
+
+import movida.dicarlosegantini.Entry;
+import movida.dicarlosegantini.array.BinarySearch;
+import movida.dicarlosegantini.sort.QuickSort;
+
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * A map implementation using a B-Tree.
+ * <p>
+ * Every node stores its keys, values and children in contiguous arrays, so that a lookup
+ * binary searches few, densely packed, nodes instead of following a pointer for each comparison.
+ * The fan-out of the nodes is given by the minimum degree t of the tree:
+ * every node, except the root, has between t - 1 and 2t - 1 keys.
+ *
+ * @param <K> Type of the keys, must be comparable.
+ * @param <V> Type of the values.
+ */
+public final class BTree<K extends Comparable<K>, V> implements IMap<K, V> {
+    public static final int DEFAULT_DEGREE = 16;
+
+    private final int degree;
+    private MultiwayNode<K, V> root;
+    private int nodes;
+    private int size;
+
+    public BTree() {
+        this(DEFAULT_DEGREE);
+    }
+
+    /**
+     * Constructs an empty B-Tree.
+     *
+     * @param degree The minimum degree of the tree, must be at least 2.
+     */
+    public BTree(final int degree) {
+        assert 2 <= degree;
+        this.degree = degree;
+        this.root = null;
+        this.nodes = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Makes a BTree from another map.
+     * <p>
+     * <pre>
+     *                  worst           best
+     * Time complexity: O(n*log(n))     O(n)
+     *
+     * Worst case: when the keys of the other map are not streamed in order and must be sorted.
+     * Best case: when the keys of the other map are already streamed in order.
+     * </pre>
+     * <p>
+     *
+     * @param map  The instance of another map.
+     * @param <K1> The type of the keys, must be comparable.
+     * @param <V1> The type of the values.
+     * @return A BTree made from the specified map.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K1 extends Comparable<K1>, V1> IMap<K1, V1> from(final IMap<K1, V1> map) {
+        final Entry<K1, V1>[] entries = map.stream().toArray(Entry[]::new);
+
+        for (int i = 1; entries.length > i; ++i) {
+            if (0 < entries[i - 1].key.compareTo(entries[i].key)) {
+                QuickSort.getInstance().sort(entries, (x, y) -> x.key.compareTo(y.key));
+                break;
+            }
+        }
+
+        return bulkLoad(entries, DEFAULT_DEGREE);
+    }
+
+    /**
+     * Makes a BTree from a stream of entries sorted by key.
+     * The tree is built bottom-up, without any comparison between the keys.
+     * <p>
+     * <pre>
+     * Time complexity: O(n)
+     * </pre>
+     * <p>
+     *
+     * @param entries The entries to put in the map, sorted by key in strictly ascending order.
+     * @param degree  The minimum degree of the tree, must be at least 2.
+     * @param <K1>    The type of the keys, must be comparable.
+     * @param <V1>    The type of the values.
+     * @return A BTree made from the specified entries.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K1 extends Comparable<K1>, V1> IMap<K1, V1> fromSorted(final Stream<Entry<K1, V1>> entries,
+                                                                           final int degree) {
+        return bulkLoad(entries.toArray(Entry[]::new), degree);
+    }
+
+    private static <K1 extends Comparable<K1>, V1> BTree<K1, V1> bulkLoad(final Entry<K1, V1>[] entries,
+                                                                          final int degree) {
+        final var newInstance = new BTree<K1, V1>(degree);
+
+        if (0 < entries.length) {
+            // Finds the minimum height of a tree able to contain all the entries.
+            var height = 0;
+            while (newInstance.maxKeys(height) < entries.length) {
+                height += 1;
+            }
+
+            newInstance.root = newInstance.build(entries, 0, entries.length, height, true);
+            newInstance.size = entries.length;
+        }
+
+        return newInstance;
+    }
+
+    /**
+     * Adds a value into the map, with the specified key.
+     * <p>
+     * <pre>
+     * Time complexity: O(log(n))
+     * </pre>
+     * <p>
+     *
+     * @param key   The key associated to the value to add.
+     * @param value The value to add.
+     * @return if there where already a value associated with the specified key, it returns its value, otherwise null.
+     */
+    @Override
+    public V add(final K key, final V value) {
+        assert null != key;
+        assert null != value;
+        final var oldValue = MultiwayNode.find(this.root, key, value);
+
+        if (null == oldValue) {
+            this.insert(key, value);
+        }
+
+        return oldValue;
+    }
+
+    /**
+     * Gets the value with the specified key if present, otherwise it adds it.
+     * <p>
+     * <pre>
+     * Time complexity: O(log(n))
+     * </pre>
+     * <p>
+     *
+     * @param key      The key associated to the value to get.
+     * @param supplier The function used to create the value if not present in the map.
+     * @return The value associated with the specified key if present, the supplied value otherwise.
+     */
+    @Override
+    public V getOrAdd(final K key, final Supplier<V> supplier) {
+        assert null != key;
+        final var oldValue = MultiwayNode.find(this.root, key, null);
+
+        if (null != oldValue) {
+            return oldValue;
+        }
+
+        final var value = supplier.get();
+        assert null != value;
+        this.insert(key, value);
+
+        return value;
+    }
+
+    /**
+     * Gets the value with the specified key, null otherwise.
+     * <p>
+     * <pre>
+     * Time complexity: O(log(n))
+     * </pre>
+     * <p>
+     *
+     * @param key The key associated to the value to get.
+     * @return The value associated with the specified key if present, null otherwise.
+     */
+    @Override
+    public V get(final K key) {
+        assert null != key;
+        return MultiwayNode.find(this.root, key, null);
+    }
+
+    /**
+     * Removes the value with the specified key.
+     * <p>
+     * <pre>
+     * Time complexity: O(log(n))
+     * </pre>
+     * <p>
+     *
+     * @param key The key associated to the value to remove.
+     * @return The removed value if present, null otherwise.
+     */
+    @Override
+    public V remove(final K key) {
+        assert null != key;
+        final var value = MultiwayNode.find(this.root, key, null);
+
+        if (null == value) {
+            return null;
+        }
+
+        this.delete(this.root, key);
+        this.size -= 1;
+
+        if (0 == this.root.count) {
+            // The root can only become empty when its last key is merged in its only child or when the tree is empty.
+            this.root = this.root.isLeaf() ? null : this.root.children[0];
+            this.nodes -= 1;
+        }
+
+        return value;
+    }
+
+    /**
+     * Checks If the specified key is in the map.
+     * <p>
+     * <pre>
+     * Time complexity: O(log(n))
+     * </pre>
+     * <p>
+     *
+     * @param key The key to search in the map.
+     * @return True if the key is found, false otherwise.
+     */
+    @Override
+    public boolean has(final K key) {
+        assert null != key;
+        return null != MultiwayNode.find(this.root, key, null);
+    }
+
+    /**
+     * Steams the keys of the map in ascending order.
+     * <p>
+     * <pre>
+     * Time complexity: O(n)
+     * </pre>
+     * <p>
+     *
+     * @return A stream of the keys in the map.
+     */
+    @Override
+    public Stream<K> keys() {
+        return MultiwayNode.stream(this.root, this.size, (node, index) -> node.keys[index]);
+    }
+
+    /**
+     * Steams the values of the map, ordered by their keys.
+     * <p>
+     * <pre>
+     * Time complexity: O(n)
+     * </pre>
+     * <p>
+     *
+     * @return A stream of the values in the map.
+     */
+    @Override
+    public Stream<V> values() {
+        return MultiwayNode.stream(this.root, this.size, (node, index) -> node.values[index]);
+    }
+
+    /**
+     * Streams the pairs key-value of the map, ordered by their keys.
+     * <p>
+     * <pre>
+     * Time complexity: O(n)
+     * </pre>
+     * <p>
+     *
+     * @return A stream of entries made of the key-value pairs.
+     */
+    @Override
+    public Stream<Entry<K, V>> stream() {
+        return MultiwayNode.stream(this.root, this.size, (node, index) -> new Entry<>(node.keys[index], node.values[index]));
+    }
+
+    /**
+     * Performs the given action on each pair key-value of the map, ordered by their keys,
+     * without allocating an entry for each one.
+     * <p>
+     * <pre>
+     * Time complexity: O(n)
+     * </pre>
+     * <p>
+     *
+     * @param action The action to perform on each key and value.
+     */
+    @Override
+    public void forEach(final BiConsumer<? super K, ? super V> action) {
+        if (null != this.root) {
+            MultiwayNode.forEach(this.root, action);
+        }
+    }
+
+    /**
+     * Nodes are allocated on demand, so there is nothing to reserve.
+     * <p>
+     * <pre>
+     * Time complexity: O(1)
+     * </pre>
+     * <p>
+     *
+     * @param additionalItems Minimum number of additional items that the map must be able to accommodate.
+     */
+    @Override
+    public void reserve(final int additionalItems) {
+        assert 0 <= additionalItems;
+    }
+
+    /**
+     * Gets the capacity of the map, which is the number of key slots allocated in the nodes.
+     * <p>
+     * <pre>
+     * Time complexity: O(1)
+     * </pre>
+     * <p>
+     *
+     * @return The capacity of the map.
+     */
+    @Override
+    public int capacity() {
+        return this.nodes * (2 * this.degree - 1);
+    }
+
+    /**
+     * Gets the size of the map.
+     * <p>
+     * <pre>
+     * Time complexity: O(1)
+     * </pre>
+     * <p>
+     *
+     * @return The size of the map.
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Clears the map making it empty.
+     * <p>
+     * <pre>
+     * Time complexity: O(1)
+     * </pre>
+     * <p>
+     */
+    @Override
+    public void clear() {
+        this.root = null;
+        this.nodes = 0;
+        this.size = 0;
+    }
+
+    private MultiwayNode<K, V> newNode(final boolean leaf) {
+        this.nodes += 1;
+        return new MultiwayNode<>(2 * this.degree - 1, leaf);
+    }
+
+    /*
+     * Maximum number of keys which a subtree of the given height can contain (saturated to Integer.MAX_VALUE).
+     */
+    private int maxKeys(final int height) {
+        // (2t)^(height + 1) - 1
+        long result = 1;
+        for (int i = 0; height >= i && Integer.MAX_VALUE >= result; ++i) {
+            result *= 2L * this.degree;
+        }
+
+        return (int) Math.min(result - 1, Integer.MAX_VALUE);
+    }
+
+    /*
+     * Builds a subtree of the given height containing the entries in range [from, to).
+     * The entries are spread evenly between the children, so that every node holds at least t - 1 keys.
+     *
+     * Time complexity: O(to - from)
+     */
+    private MultiwayNode<K, V> build(final Entry<K, V>[] entries, final int from, final int to, final int height,
+                             final boolean isRoot) {
+        final var count = to - from;
+        final var node = this.newNode(0 == height);
+
+        if (0 == height) {
+            assert count <= 2 * this.degree - 1;
+            for (int i = 0; count > i; ++i) {
+                node.keys[i] = entries[from + i].key;
+                node.values[i] = entries[from + i].value;
+            }
+            node.count = count;
+            return node;
+        }
+
+        // Each child with its separator accommodates at most (2t)^height entries.
+        final var childSpan = (long) this.maxKeys(height - 1) + 1;
+        final var minChildren = isRoot ? 2 : this.degree;
+        final var childrenCount = (int) Math.max(minChildren, (count + childSpan) / childSpan);
+        assert childrenCount <= 2 * this.degree;
+
+        final var childrenEntries = count - (childrenCount - 1);
+        final var share = childrenEntries / childrenCount;
+        final var remainder = childrenEntries % childrenCount;
+
+        var start = from;
+        for (int i = 0; childrenCount > i; ++i) {
+            final var end = start + share + ((i < remainder) ? 1 : 0);
+            node.children[i] = this.build(entries, start, end, height - 1, false);
+
+            if (childrenCount - 1 > i) {
+                node.keys[i] = entries[end].key;
+                node.values[i] = entries[end].value;
+            }
+
+            start = end + 1;
+        }
+
+        node.count = childrenCount - 1;
+        return node;
+    }
+
+    /*
+     * Inserts a key not already in the tree, splitting full nodes on the way down.
+     *
+     * Time complexity: O(log(n))
+     */
+    private void insert(final K key, final V value) {
+        if (null == this.root) {
+            this.root = this.newNode(true);
+        }
+
+        if (this.root.isFull()) {
+            final var newRoot = this.newNode(false);
+            newRoot.children[0] = this.root;
+            this.splitChild(newRoot, 0);
+            this.root = newRoot;
+        }
+
+        var node = this.root;
+        while (true) {
+            var index = -(BinarySearch.search(node.keys, 0, node.count, key) + 1);
+            assert 0 <= index;
+
+            if (node.isLeaf()) {
+                node.insertAt(index, key, value, null);
+                break;
+            }
+
+            if (node.children[index].isFull()) {
+                this.splitChild(node, index);
+                if (0 < key.compareTo(node.keys[index])) {
+                    index += 1;
+                }
+            }
+
+            node = node.children[index];
+        }
+
+        this.size += 1;
+    }
+
+    /*
+     * Splits the full child at index of a non full parent, moving its median key into the parent.
+     *
+     * Time complexity: O(t)
+     */
+    private void splitChild(final MultiwayNode<K, V> parent, final int index) {
+        final var t = this.degree;
+        final var child = parent.children[index];
+        final var sibling = this.newNode(child.isLeaf());
+
+        System.arraycopy(child.keys, t, sibling.keys, 0, t - 1);
+        System.arraycopy(child.values, t, sibling.values, 0, t - 1);
+        if (!child.isLeaf()) {
+            System.arraycopy(child.children, t, sibling.children, 0, t);
+        }
+        sibling.count = t - 1;
+
+        parent.insertAt(index, child.keys[t - 1], child.values[t - 1], sibling);
+        child.truncate(t - 1);
+    }
+
+    /*
+     * Deletes a key which is in the subtree rooted in node.
+     * It is only called on nodes with at least t keys (or on the root), so that a key can always be removed
+     * without underflow.
+     *
+     * Time complexity: O(log(n))
+     */
+    private void delete(MultiwayNode<K, V> node, final K key) {
+        while (true) {
+            final var found = BinarySearch.search(node.keys, 0, node.count, key);
+
+            if (node.isLeaf()) {
+                assert 0 <= found;
+                node.removeAt(found, false);
+                return;
+            }
+
+            if (0 <= found) {
+                final var left = node.children[found];
+                final var right = node.children[found + 1];
+
+                if (this.degree <= left.count) {
+                    // Replaces the key with its predecessor and deletes the predecessor from the left subtree.
+                    var predecessor = left;
+                    while (!predecessor.isLeaf()) {
+                        predecessor = predecessor.children[predecessor.count];
+                    }
+                    node.keys[found] = predecessor.keys[predecessor.count - 1];
+                    node.values[found] = predecessor.values[predecessor.count - 1];
+                    this.delete(left, node.keys[found]);
+                    return;
+                }
+
+                if (this.degree <= right.count) {
+                    // Replaces the key with its successor and deletes the successor from the right subtree.
+                    var successor = right;
+                    while (!successor.isLeaf()) {
+                        successor = successor.children[0];
+                    }
+                    node.keys[found] = successor.keys[0];
+                    node.values[found] = successor.values[0];
+                    this.delete(right, node.keys[found]);
+                    return;
+                }
+
+                node.merge(found);
+                this.nodes -= 1;
+                node = left;
+                continue;
+            }
+
+            var index = -(found + 1);
+            final var child = node.children[index];
+
+            if (this.degree > child.count) {
+                if (0 < index && this.degree <= node.children[index - 1].count) {
+                    node.rotateRight(index - 1);
+                } else if (node.count > index && this.degree <= node.children[index + 1].count) {
+                    node.rotateLeft(index);
+                } else {
+                    if (node.count == index) {
+                        index -= 1;
+                    }
+                    node.merge(index);
+                    this.nodes -= 1;
+                }
+            }
+
+            node = node.children[index];
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 - Davide Di Carlo, Andrea Segantini
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package movida.dicarlosegantini.map;
+
+import movida.dicarlosegantini.array.DynamicArray;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Node of the binary search trees (ABR and AVL), each tree extends it with its balancing information.
+ * It holds a key with its value and the children on its left and on its right, null when missing.
+ *
+ * @param <K> Type of the key.
+ * @param <V> Type of the value.
+ * @param <N> Type of the node that extends this one.
+ */
+abstract class BinaryNode<K, V, N extends BinaryNode<K, V, N>> {
+    K key;
+    V value;
+    N left;
+    N right;
+
+    BinaryNode(final K key, final V value) {
+        this.key = key;
+        this.value = value;
+        this.left = null;
+        this.right = null;
+    }
+
+    static <N extends BinaryNode<?, ?, N>> N rotateRight(final N node) {
+        final var pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        return pivot;
+    }
+
+    static <N extends BinaryNode<?, ?, N>> N rotateLeft(final N node) {
+        final var pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        return pivot;
+    }
+
+    /*
+     * Gets the node with the specified key in the tree rooted at root (which may be null), null if absent.
+     *
+     * Time complexity: O(h) where h is the height of the tree
+     */
+    static <K extends Comparable<K>, N extends BinaryNode<K, ?, N>> N find(final N root, final K key) {
+        var node = root;
+
+        while (null != node) {
+            final var cmp = key.compareTo(node.key);
+
+            if (0 > cmp) {
+                node = node.left;
+            } else if (0 < cmp) {
+                node = node.right;
+            } else {
+                return node;
+            }
+        }
+
+        return null;
+    }
+
+    /*
+     * In-order visit of the subtree, recurring on the left children and looping on the right ones.
+     */
+    static <K, V, N extends BinaryNode<K, V, N>> void forEach(N node, final BiConsumer<? super K, ? super V> action) {
+        while (null != node) {
+            forEach(node.left, action);
+            action.accept(node.key, node.value);
+            node = node.right;
+        }
+    }
+
+    /*
+     * Streams, in order, the nodes of the tree rooted at root (which may be null).
+     */
+    static <N extends BinaryNode<?, ?, N>> Stream<N> stream(final N root, final int size) {
+        final var characteristics = Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL;
+        final var spliterator = Spliterators.spliterator(new InOrderIterator<>(root), size, characteristics);
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    /*
+     * In-order visit of the tree using an explicit stack, whose size is bounded by the height of the tree.
+     */
+    private static final class InOrderIterator<N extends BinaryNode<?, ?, N>> implements Iterator<N> {
+        private final DynamicArray<N> stack;
+
+        InOrderIterator(final N root) {
+            this.stack = new DynamicArray<>();
+            this.pushLeftPath(root);
+        }
+
+        private void pushLeftPath(N node) {
+            while (null != node) {
+                this.stack.append(node);
+                node = node.left;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !this.stack.isEmpty();
+        }
+
+        @Override
+        public N next() {
+            if (this.stack.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+
+            final var node = this.stack.remove(this.stack.size() - 1);
+            this.pushLeftPath(node.right);
+            return node;
+        }
+    }
+}
@@ -0,0 +1,395 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 - Davide Di Carlo, Andrea Segantini
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package movida.dicarlosegantini.map;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * A map with int keys, implemented using an array indexed by the key minus an offset.
+ * <p>
+ * It is meant for keys falling in a small range (e.g. years): lookups are a subtraction and an array access,
+ * with no hashing and no boxing of the keys, and values are streamed ordered by their keys.
+ * The memory used is proportional to the range of the keys (max - min), not to their number.
+ * <p>
+ * The range is never stretched over MAX_RANGE keys: a key that would need it (e.g. a mistyped year) is an outlier,
+ * kept apart in an AVL tree, so a single bad key can't make the map allocate a huge array.
+ *
+ * @param <V> Type of the values.
+ */
+public final class DenseIntMap<V> {
+    // Maximum number of keys covered by the array.
+    static final int MAX_RANGE = 1 << 16;
+
+    private V[] values;
+    // The key associated to values[0].
+    private int offset;
+    // Number of values in the array, the outliers are not counted.
+    private int size;
+    // Keys out of the range of the array, null until the first one is added.
+    private AVL<Integer, V> outliers;
+
+    @SuppressWarnings({"unchecked"})
+    public DenseIntMap() {
+        this.values = (V[]) new Object[0];
+        this.offset = 0;
+        this.size = 0;
+        this.outliers = null;
+    }
+
+    /**
+     * Adds a value into the map, with the specified key.
+     * <p>
+     * <pre>
+     *                   worst   best
+     * Time complexity:  O(r)    O(1)
+     *
+     * Worst case: when the key is outside the current range r and the array must be expanded.
+     * Best case: when the key is inside the current range.
+     * </pre>
+     * <p>
+     *
+     * @param key   The key associated to the value to add.
+     * @param value The value to add.
+     * @return if there where already a value associated with the specified key, it returns its value, otherwise null.
+     */
+    public V add(final int key, final V value) {
+        assert null != value;
+        final var index = this.reserveKey(key);
+
+        if (0 > index) {
+            return this.outliers().add(key, value);
+        }
+
+        final var oldValue = this.values[index];
+
+        this.values[index] = value;
+        if (null == oldValue) {
+            this.size += 1;
+        }
+
+        return oldValue;
+    }
+
+    /**
+     * Gets the value with the specified key if present, otherwise it adds it.
+     * <p>
+     * <pre>
+     *                   worst   best
+     * Time complexity:  O(r)    O(1)
+     *
+     * Worst case: when the key is outside the current range r and the array must be expanded.
+     * Best case: when the key is inside the current range.
+     * </pre>
+     * <p>
+     *
+     * @param key      The key associated to the value to get.
+     * @param supplier The function used to create the value if not present in the map.
+     * @return The value associated with the specified key if present, the supplied value otherwise.
+     */
+    public V getOrAdd(final int key, final Supplier<V> supplier) {
+        final var value = this.get(key);
+
+        if (null != value) {
+            return value;
+        }
+
+        final var newValue = supplier.get();
+        assert null != newValue;
+
+        final var index = this.reserveKey(key);
+        if (0 > index) {
+            this.outliers().add(key, newValue);
+            return newValue;
+        }
+
+        this.values[index] = newValue;
+        this.size += 1;
+
+        return newValue;
+    }
+
+    /**
+     * Gets the value with the specified key if present, otherwise it returns a supplied value.
+     * <p>
+     * <pre>
+     * Time complexity: O(1)
+     * </pre>
+     * <p>
+     *
+     * @param key      The key associated to the value to get.
+     * @param supplier The function used to create the value if not present in the map.
+     * @return The value associated with the specified key if present, the supplied value otherwise.
+     */
+    public V getOrDefault(final int key, final Supplier<V> supplier) {
+        final var value = this.get(key);
+        return (null != value) ? value : supplier.get();
+    }
+
+    /**
+     * Gets the value with the specified key, null otherwise.
+     * <p>
+     * <pre>
+     * Time complexity: O(1)
+     * </pre>
+     * <p>
+     *
+     * @param key The key associated to the value to get.
+     * @return The value associated with the specified key if present, null otherwise.
+     */
+    public V get(final int key) {
+        final var index = this.indexOf(key);
+
+        if (0 <= index) {
+            return this.values[index];
+        }
+
+        return (null != this.outliers) ? this.outliers.get(key) : null;
+    }
+
+    /**
+     * Removes the value with the specified key.
+     * <p>
+     * <pre>
+     * Time complexity: O(1)
+     * </pre>
+     * <p>
+     *
+     * @param key The key associated to the value to remove.
+     * @return The removed value if present, null otherwise.
+     */
+    public V remove(final int key) {
+        final var index = this.indexOf(key);
+
+        if (0 > index) {
+            return (null != this.outliers) ? this.outliers.remove(key) : null;
+        }
+        if (null == this.values[index]) {
+            return null;
+        }
+
+        final var value = this.values[index];
+        this.values[index] = null;
+        this.size -= 1;
+
+        return value;
+    }
+
+    /**
+     * Checks If the specified key is in the map.
+     * <p>
+     * <pre>
+     * Time complexity: O(1)
+     * </pre>
+     * <p>
+     *
+     * @param key The key to search in the map.
+     * @return True if the key is found, false otherwise.
+     */
+    public boolean has(final int key) {
+        return null != this.get(key);
+    }
+
+    /**
+     * Streams the values of the map, ordered by their keys.
+     * <p>
+     * <pre>
+     * Time complexity: O(r) where r is the range of the keys.
+     * </pre>
+     * <p>
+     *
+     * @return A stream of the values in the map.
+     */
+    public Stream<V> values() {
+        final var values = Arrays.stream(this.values)
+                .filter(Objects::nonNull)
+                .limit(this.size);
+
+        if (null == this.outliers) {
+            return values;
+        }
+
+        return Stream.of(
+                this.outliers.stream().filter(e -> e.key < this.offset).map(e -> e.value),
+                values,
+                this.outliers.stream().filter(e -> e.key > this.offset).map(e -> e.value)
+        ).flatMap(s -> s);
+    }
+
+    /**
+     * Performs the given action on each value of the map, ordered by their keys.
+     * <p>
+     * <pre>
+     * Time complexity: O(r) where r is the range of the keys.
+     * </pre>
+     * <p>
+     *
+     * @param action The action to perform on each value.
+     */
+    public void forEachValue(final Consumer<? super V> action) {
+        if (null != this.outliers) {
+            this.outliers.forEach((key, value) -> {
+                if (key < this.offset) {
+                    action.accept(value);
+                }
+            });
+        }
+
+        for (final var value : this.values) {
+            if (null != value) {
+                action.accept(value);
+            }
+        }
+
+        if (null != this.outliers) {
+            this.outliers.forEach((key, value) -> {
+                if (key > this.offset) {
+                    action.accept(value);
+                }
+            });
+        }
+    }
+
+    /**
+     * Gets the capacity of the map, which is the range of keys it can hold without expanding.
+     * <p>
+     * <pre>
+     * Time complexity: O(1)
+     * </pre>
+     * <p>
+     *
+     * @return The capacity of the map.
+     */
+    public int capacity() {
+        return this.values.length;
+    }
+
+    /**
+     * Gets the size of the map.
+     * <p>
+     * <pre>
+     * Time complexity: O(1)
+     * </pre>
+     * <p>
+     *
+     * @return The size of the map.
+     */
+    public int size() {
+        return this.size + ((null != this.outliers) ? this.outliers.size() : 0);
+    }
+
+    /**
+     * Clears the map making it empty.
+     * <p>
+     * <pre>
+     * Time complexity: O(r) where r is the range of the keys.
+     * </pre>
+     * <p>
+     */
+    public void clear() {
+        Arrays.fill(this.values, null);
+        this.size = 0;
+        this.outliers = null;
+    }
+
+    /**
+     * Check if the map is empty.
+     *
+     * @return true if the map is empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        return 0 == this.size();
+    }
+
+    private AVL<Integer, V> outliers() {
+        if (null == this.outliers) {
+            this.outliers = new AVL<>();
+        }
+
+        return this.outliers;
+    }
+
+    /*
+     * Gets the index of the specified key, -1 if the key is outside the current range.
+     *
+     * Time complexity: O(1)
+     */
+    private int indexOf(final int key) {
+        final var index = (long) key - this.offset;
+        return (0 <= index && index < this.values.length) ? (int) index : -1;
+    }
+
+    /*
+     * Expands the array, if needed, so that it contains the specified key and returns its index.
+     * The array is at least doubled on the side of the new key, so that keys growing (or decreasing)
+     * one by one cause O(log(r)) expansions.
+     * Returns -1 when the key is an outlier: the array would have to cover more than MAX_RANGE keys.
+     * Since the array never shrinks while the map holds values, an outlier never falls in the array later.
+     *
+     * Time complexity: O(r) in the worst case, O(1) when the key is already in range.
+     */
+    @SuppressWarnings({"unchecked"})
+    private int reserveKey(final int key) {
+        final var index = this.indexOf(key);
+
+        if (0 <= index) {
+            return index;
+        }
+
+        if (this.isEmpty() && 0 < this.values.length) {
+            // The array is empty, so it can be reused for a new range.
+            this.offset = key;
+            return 0;
+        }
+
+        final var length = this.values.length;
+        final var low = (0 == length) ? key : Math.min((long) key, this.offset);
+        final var high = (0 == length) ? key : Math.max((long) key, (long) this.offset + length - 1);
+        if (MAX_RANGE < high - low + 1) {
+            return -1;
+        }
+
+        final var newLength = Math.min(MAX_RANGE, Math.max(high - low + 1, Math.max(8, 2L * length)));
+
+        // The free space is left on the side where the map is growing.
+        final var newOffset = (int) ((key < this.offset) ? Math.max(Integer.MIN_VALUE, high - newLength + 1) : low);
+        final var newValues = (V[]) new Object[(int) newLength];
+
+        if (0 < length) {
+            System.arraycopy(this.values, 0, newValues, this.offset - newOffset, length);
+        }
+
+        this.values = newValues;
+        this.offset = newOffset;
+
+        return key - newOffset;
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 - Davide Di Carlo, Andrea Segantini
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package movida.dicarlosegantini.map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DenseIntMapTest {
+    DenseIntMap<Integer> sut;
+
+    @BeforeEach
+    void setUp() {
+        this.sut = new DenseIntMap<>();
+        assertTrue(this.sut.isEmpty());
+        assertEquals(0, this.sut.size());
+        assertEquals(0, this.sut.capacity());
+        assertEquals(0, this.sut.values().count());
+    }
+
+    @Test
+    void add() {
+        // years are added in no particular order, so the range grows on both sides
+        final int[] KEYS = {1994, 1991, 1976, 2019, 1976, 1888, 2020};
+
+        for (final var key : KEYS) {
+            final var existing = this.sut.has(key);
+            final var size = this.sut.size();
+
+            assertEquals(existing ? -key : null, this.sut.add(key, -key));
+            assertEquals(existing ? size : size + 1, this.sut.size());
+            assertTrue(this.sut.has(key));
+            assertEquals(-key, this.sut.get(key));
+        }
+
+        assertEquals(6, this.sut.size());
+        assertTrue(this.sut.capacity() >= 2020 - 1888 + 1);
+        assertArrayEquals(
+                new Integer[]{-1888, -1976, -1991, -1994, -2019, -2020},
+                this.sut.values().toArray(Integer[]::new)
+        );
+
+        assertNull(this.sut.get(1887));
+        assertNull(this.sut.get(2021));
+        assertNull(this.sut.get(2000));
+        assertNull(this.sut.get(Integer.MIN_VALUE));
+        assertNull(this.sut.get(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void getOrAdd() {
+        assertEquals(42, this.sut.getOrAdd(-7, () -> 42));
+        assertEquals(42, this.sut.getOrAdd(-7, () -> 0));
+        assertEquals(1, this.sut.size());
+
+        assertEquals(7, this.sut.getOrDefault(3, () -> 7));
+        assertFalse(this.sut.has(3));
+        assertEquals(1, this.sut.size());
+    }
+
+    @Test
+    void remove() {
+        for (int i = 0; 16 > i; ++i) {
+            assertNull(this.sut.add(2000 + i, i));
+        }
+
+        for (int i = 0; 16 > i; i += 2) {
+            assertEquals(i, this.sut.remove(2000 + i));
+            assertNull(this.sut.remove(2000 + i));
+            assertFalse(this.sut.has(2000 + i));
+        }
+
+        assertEquals(8, this.sut.size());
+        assertNull(this.sut.remove(1000));
+        assertNull(this.sut.remove(3000));
+        assertEquals(1 + 3 + 5 + 7 + 9 + 11 + 13 + 15, this.sut.values().reduce(0, Integer::sum));
+    }
+
+    @Test
+    void clear() {
+        for (int i = 0; 16 > i; ++i) {
+            this.sut.add(2000 + i, i);
+        }
+        final var capacity = this.sut.capacity();
+
+        this.sut.clear();
+        assertTrue(this.sut.isEmpty());
+        assertEquals(0, this.sut.values().count());
+        assertNull(this.sut.get(2000));
+
+        // an empty map reuses its array for a new range
+        assertNull(this.sut.add(-50000, 1));
+        assertEquals(capacity, this.sut.capacity());
+        assertEquals(1, this.sut.get(-50000));
+    }
+
+    @Test
+    void outliers() {
+        for (int year = 1990; 2020 >= year; ++year) {
+            this.sut.add(year, year);
+        }
+
+        // a mistyped year and a negative one must not stretch the array over the whole range
+        assertNull(this.sut.add(19999, 19999));
+        assertNull(this.sut.add(-2000, -2000));
+        assertNull(this.sut.add(Integer.MAX_VALUE, 1));
+        assertNull(this.sut.add(Integer.MIN_VALUE, 2));
+        assertTrue(DenseIntMap.MAX_RANGE >= this.sut.capacity());
+
+        assertEquals(31 + 4, this.sut.size());
+        assertEquals(19999, this.sut.get(19999));
+        assertEquals(-2000, this.sut.getOrAdd(-2000, () -> 0));
+        assertEquals(19999, this.sut.add(19999, 20000));
+        assertNull(this.sut.get(19998));
+
+        // values are still ordered by their keys
+        final var values = this.sut.values().toArray(Integer[]::new);
+        assertEquals(this.sut.size(), values.length);
+        assertArrayEquals(new Integer[]{2, -2000, 1990}, Arrays.copyOf(values, 3));
+        assertArrayEquals(new Integer[]{2020, 20000, 1},
+                Arrays.copyOfRange(values, values.length - 3, values.length));
+
+        final var visited = new ArrayList<Integer>();
+        this.sut.forEachValue(visited::add);
+        assertArrayEquals(values, visited.toArray(Integer[]::new));
+
+        assertEquals(20000, this.sut.remove(19999));
+        assertFalse(this.sut.has(19999));
+        assertEquals(31 + 3, this.sut.size());
+
+        this.sut.clear();
+        assertTrue(this.sut.isEmpty());
+        assertNull(this.sut.get(-2000));
+    }
+}
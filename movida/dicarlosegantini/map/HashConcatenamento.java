@@ -0,0 +1,482 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 - Davide Di Carlo, Andrea Segantini
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package movida.dicarlosegantini.map;
+
+import movida.dicarlosegantini.Entry;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * A map implementation using hashing and separate chaining.
+ * <p>
+ * Instead of allocating a node for each entry, the entries are stored densely in parallel arrays
+ * (keys, values, hashes and next), while the chains are made of indices into those arrays.
+ * When an entry is removed, the last entry is moved in its place, so there are no deleted markers
+ * and the entries always occupy the range [0, size).
+ *
+ * @param <K> Type of the keys.
+ * @param <V> Type of the values.
+ */
+public final class HashConcatenamento<K, V> implements IMap<K, V> {
+    // Marks the end of a chain.
+    private static final int NONE = -1;
+    // Heads of the chains, the number of buckets is always a power of two.
+    private int[] buckets;
+    private int[] hashes;
+    private int[] next;
+    private V[] values;
+    private K[] keys;
+    private int size;
+
+    @SuppressWarnings({"unchecked"})
+    public HashConcatenamento() {
+        this.buckets = new int[0];
+        this.hashes = new int[0];
+        this.next = new int[0];
+        this.values = (V[]) new Object[0];
+        this.keys = (K[]) new Object[0];
+        this.size = 0;
+    }
+
+    /**
+     * Makes an HashConcatenamento from another map.
+     * <p>
+     * <pre>
+     * Time complexity: O(n)
+     * </pre>
+     * <p>
+     *
+     * @param map  The instance of another map.
+     * @param <K1> The type of the keys.
+     * @param <V1> The type of the values.
+     * @return An HashConcatenamento made from the specified map.
+     */
+    public static <K1, V1> IMap<K1, V1> from(final IMap<K1, V1> map) {
+        final var newInstance = new HashConcatenamento<K1, V1>();
+        newInstance.reserve(map.size());
+        map.forEach(newInstance::add);
+        return newInstance;
+    }
+
+    /**
+     * Computes hashes using java's hashCode, mixing its high bits into the low ones
+     * since only the low bits are used to select the bucket.
+     *
+     * @param key The item to hash.
+     * @return The hash of the item.
+     */
+    private static int computeHash(final Object key) {
+        final var hashCode = key.hashCode();
+        return hashCode ^ (hashCode >>> 16);
+    }
+
+    /**
+     * Adds a value into the map, with the specified key.
+     * <p>
+     * <pre>
+     *                   worst   best
+     * Time complexity:  O(n)    O(1)
+     *
+     * Worst case: when the (key-value) is not in the map and an expansion + rehashing is needed.
+     * Best case: when expansion + rehashing is not needed.
+     * </pre>
+     * <p>
+     *
+     * @param key   The key associated to the value to add.
+     * @param value The value to add.
+     * @return if there where already a value associated with the specified key, it returns its value, otherwise null.
+     */
+    @Override
+    public V add(final K key, final V value) {
+        assert null != key;
+        assert null != value;
+        final var hash = computeHash(key);
+        final var index = this.indexOf(key, hash);
+
+        if (NONE != index) {
+            final var oldValue = this.values[index];
+            this.values[index] = value;
+            return oldValue;
+        }
+
+        this.reserve(1);
+        this.rawAdd(key, value, hash);
+        return null;
+    }
+
+    /**
+     * Gets the value with the specified key if present, otherwise it adds it.
+     * <p>
+     * <pre>
+     *                   worst   best
+     * Time complexity:  O(n)    O(1)
+     *
+     * Worst case: when the (key-value) is not in the map and an expansion + rehashing is needed.
+     * Best case: when expansion + rehashing is not needed.
+     * </pre>
+     * <p>
+     *
+     * @param key      The key associated to the value to get.
+     * @param supplier The function used to create the value if not present in the map.
+     * @return The value associated with the specified key if present, the supplied value otherwise.
+     */
+    @Override
+    public V getOrAdd(final K key, final Supplier<V> supplier) {
+        assert null != key;
+        final var hash = computeHash(key);
+        final var index = this.indexOf(key, hash);
+
+        if (NONE != index) {
+            return this.values[index];
+        }
+
+        final var value = supplier.get();
+        assert null != value;
+
+        this.reserve(1);
+        this.rawAdd(key, value, hash);
+        return value;
+    }
+
+    /**
+     * Gets the value with the specified key, null otherwise.
+     * <p>
+     * <pre>
+     *                  worst                              best
+     * Time complexity: O(n) -> due to collisions          O(1)
+     * </pre>
+     * <p>
+     *
+     * @param key The key associated to the value to get.
+     * @return The value associated with the specified key if present, null otherwise.
+     */
+    @Override
+    public V get(final K key) {
+        assert null != key;
+        final var index = this.indexOf(key, computeHash(key));
+        return (NONE != index) ? this.values[index] : null;
+    }
+
+    /**
+     * Removes the value with the specified key.
+     * <p>
+     * <pre>
+     *                  worst                              best
+     * Time complexity: O(n) -> due to collisions          O(1)
+     * </pre>
+     * <p>
+     *
+     * @param key The key associated to the value to remove.
+     * @return The removed value if present, null otherwise.
+     */
+    @Override
+    public V remove(final K key) {
+        assert null != key;
+
+        if (this.isEmpty()) {
+            return null;
+        }
+
+        final var hash = computeHash(key);
+        final var bucket = hash & (this.buckets.length - 1);
+        var previous = NONE;
+        var index = this.buckets[bucket];
+
+        while (NONE != index && (hash != this.hashes[index] || !key.equals(this.keys[index]))) {
+            previous = index;
+            index = this.next[index];
+        }
+
+        if (NONE == index) {
+            return null;
+        }
+
+        // Unlinks the entry from its chain.
+        if (NONE == previous) {
+            this.buckets[bucket] = this.next[index];
+        } else {
+            this.next[previous] = this.next[index];
+        }
+
+        final var value = this.values[index];
+        final var last = this.size - 1;
+
+        if (index != last) {
+            this.moveEntry(last, index);
+        }
+
+        this.values[last] = null;
+        this.keys[last] = null;
+        this.size -= 1;
+
+        return value;
+    }
+
+    /**
+     * Checks If the specified key is in the map.
+     * <p>
+     * <pre>
+     *                  worst                              best
+     * Time complexity: O(n) -> due to collisions          O(1)
+     * </pre>
+     * <p>
+     *
+     * @param key The key to search in the map.
+     * @return True if the key is found, false otherwise.
+     */
+    @Override
+    public boolean has(final K key) {
+        assert null != key;
+        return NONE != this.indexOf(key, computeHash(key));
+    }
+
+    /**
+     * Steams the keys of the map.
+     * <p>
+     * <pre>
+     * Time complexity: O(n)
+     * </pre>
+     * <p>
+     *
+     * @return A stream of the keys in the map.
+     */
+    @Override
+    public Stream<K> keys() {
+        return Arrays.stream(this.keys, 0, this.size);
+    }
+
+    /**
+     * Steams the values of the map.
+     * <p>
+     * <pre>
+     * Time complexity: O(n)
+     * </pre>
+     * <p>
+     *
+     * @return A stream of the values in the map.
+     */
+    @Override
+    public Stream<V> values() {
+        return Arrays.stream(this.values, 0, this.size);
+    }
+
+    /**
+     * Streams the pairs key-value of the map.
+     * <p>
+     * <pre>
+     * Time complexity: O(n)
+     * </pre>
+     * <p>
+     *
+     * @return A stream of entries made of the key-value pairs.
+     */
+    @Override
+    public Stream<Entry<K, V>> stream() {
+        return IntStream.range(0, this.size).mapToObj(i -> new Entry<>(this.keys[i], this.values[i]));
+    }
+
+    /**
+     * Performs the given action on each pair key-value of the map, without allocating an entry for each one.
+     * <p>
+     * <pre>
+     * Time complexity: O(n)
+     * </pre>
+     * <p>
+     *
+     * @param action The action to perform on each key and value.
+     */
+    @Override
+    public void forEach(final BiConsumer<? super K, ? super V> action) {
+        for (int i = 0; this.size > i; ++i) {
+            action.accept(this.keys[i], this.values[i]);
+        }
+    }
+
+    /**
+     * If needed, expands the map to support at least additionalItems more.
+     * <p>
+     * <pre>
+     *                   worst   best
+     * Time complexity:  O(n)    O(1)
+     *
+     * Worst case: when expansion + rehashing is needed.
+     * Best case: when expansion + rehashing is not needed.
+     * </pre>
+     * <p>
+     *
+     * @param additionalItems Minimum number of additional items that the map must be able to accommodate.
+     * @implNote The number of buckets is kept greater or equal to the capacity, so the load factor never exceeds 1.
+     */
+    @Override
+    public void reserve(final int additionalItems) {
+        assert 0 <= additionalItems;
+
+        if ((this.size + additionalItems) <= this.capacity()) {
+            return;
+        }
+
+        // In order to avoid unnecessary reallocations,
+        // when the map is expanded, it is allocated more space than required
+        final var newCapacity = (int) Math.ceil((this.size + additionalItems) / 0.6);
+        this.hashes = Arrays.copyOf(this.hashes, newCapacity);
+        this.next = Arrays.copyOf(this.next, newCapacity);
+        this.values = Arrays.copyOf(this.values, newCapacity);
+        this.keys = Arrays.copyOf(this.keys, newCapacity);
+
+        // Rehashing uses the stored hashes, so hashCode is never called again on the keys.
+        this.buckets = new int[Integer.highestOneBit(newCapacity - 1) << 1];
+        Arrays.fill(this.buckets, NONE);
+
+        for (int i = 0; this.size > i; ++i) {
+            this.link(i);
+        }
+    }
+
+    /**
+     * Gets the capacity of the map.
+     * <p>
+     * <pre>
+     * Time complexity: O(1)
+     * </pre>
+     * <p>
+     *
+     * @return The capacity of the map.
+     */
+    @Override
+    public int capacity() {
+        return this.keys.length;
+    }
+
+    /**
+     * Gets the size of the map.
+     * <p>
+     * <pre>
+     * Time complexity: O(1)
+     * </pre>
+     * <p>
+     *
+     * @return The size of the map.
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Clears the map making it empty.
+     * <p>
+     * <pre>
+     * Time complexity: O(n)
+     * </pre>
+     * <p>
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(this.buckets, NONE);
+        Arrays.fill(this.values, 0, this.size, null);
+        Arrays.fill(this.keys, 0, this.size, null);
+        this.size = 0;
+    }
+
+    /*
+     * Gets the index of the entry with the specified key, NONE if absent.
+     *
+     *                  worst                              best
+     * Time complexity: O(n) -> due to collisions          O(1)
+     */
+    private int indexOf(final K key, final int hash) {
+        if (this.isEmpty()) {
+            return NONE;
+        }
+
+        var index = this.buckets[hash & (this.buckets.length - 1)];
+
+        // The stored hashes avoid most of the calls to equals.
+        while (NONE != index && (hash != this.hashes[index] || !key.equals(this.keys[index]))) {
+            index = this.next[index];
+        }
+
+        return index;
+    }
+
+    /*
+     * Pushes the entry at index at the head of its chain.
+     *
+     * Time complexity: O(1)
+     */
+    private void link(final int index) {
+        final var bucket = this.hashes[index] & (this.buckets.length - 1);
+        this.next[index] = this.buckets[bucket];
+        this.buckets[bucket] = index;
+    }
+
+    /*
+     * Moves the entry at index from into the free slot at index to, updating the chain which contains it.
+     *
+     * Time complexity: O(1) on average, the length of the chain in the worst case.
+     */
+    private void moveEntry(final int from, final int to) {
+        final var bucket = this.hashes[from] & (this.buckets.length - 1);
+
+        if (from == this.buckets[bucket]) {
+            this.buckets[bucket] = to;
+        } else {
+            var index = this.buckets[bucket];
+            while (from != this.next[index]) {
+                index = this.next[index];
+            }
+            this.next[index] = to;
+        }
+
+        this.hashes[to] = this.hashes[from];
+        this.next[to] = this.next[from];
+        this.values[to] = this.values[from];
+        this.keys[to] = this.keys[from];
+    }
+
+    /*
+     * Adds a (key-value) which is not in the map.
+     *
+     * Note: this add does not call reserve method.
+     * Time complexity: O(1)
+     */
+    private void rawAdd(final K key, final V value, final int hash) {
+        assert this.size < this.capacity();
+        final var index = this.size;
+
+        this.hashes[index] = hash;
+        this.values[index] = value;
+        this.keys[index] = key;
+        this.link(index);
+        this.size += 1;
+    }
+}
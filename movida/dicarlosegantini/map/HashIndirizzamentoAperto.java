@@ -31,26 +31,32 @@ import movida.dicarlosegantini.Entry;
 
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
  * A map implementation using hashing and linear probing.
+ * <p>
+ * Collisions are resolved with Robin Hood hashing: while probing, an item which is farther from its home slot
+ * takes the place of an item which is closer to its own, keeping the probe sequences short and even.
+ * Removals shift back the following items of the cluster (backward-shift deletion), so no deleted markers are
+ * left in the table and lookups never probe past the end of a cluster.
  *
  * @param <K> Type of the keys.
  * @param <V> Type of the values.
  */
 public final class HashIndirizzamentoAperto<K, V> implements IMap<K, V> {
-    // Special marker to signal a deleted value.
-    @SuppressWarnings("unchecked")
-    private final K DELETED = (K) new Object();
+    // Hashes of the keys, kept to compute probe distances and to skip most of the calls to equals.
+    private int[] hashes;
     private V[] values;
     private K[] keys;
     private int size;
 
     @SuppressWarnings({"unchecked"})
     public HashIndirizzamentoAperto() {
+        this.hashes = new int[0];
         this.values = (V[]) new Object[0];
         this.keys = (K[]) new Object[0];
         this.size = 0;
@@ -72,22 +78,58 @@ public final class HashIndirizzamentoAperto<K, V> implements IMap<K, V> {
     public static <K1, V1> IMap<K1, V1> from(final IMap<K1, V1> map) {
         final var newInstance = new HashIndirizzamentoAperto<K1, V1>();
         newInstance.reserve(map.size());
-        map.stream().forEach(e -> newInstance.add(e.key, e.value));
+        // The keys of a map are unique, so they can be placed without searching them.
+        map.forEach((key, value) -> newInstance.rawAdd(key, value, computeHash(key)));
+        return newInstance;
+    }
+
+    /**
+     * Makes an HashIndirizzamentoAperto from a stream of entries.
+     * The map is sized once for all the entries, so it is never rehashed while they are placed.
+     * When a key is repeated, the map holds its last value, as if the entries were added one by one.
+     * <p>
+     * <pre>
+     * Time complexity: O(n)
+     * </pre>
+     * <p>
+     *
+     * @param entries The entries to put in the map.
+     * @param <K1>    The type of the keys.
+     * @param <V1>    The type of the values.
+     * @return An HashIndirizzamentoAperto made from the specified entries.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K1, V1> IMap<K1, V1> fromEntries(final Stream<Entry<K1, V1>> entries) {
+        final Entry<K1, V1>[] array = entries.toArray(Entry[]::new);
+        final var newInstance = new HashIndirizzamentoAperto<K1, V1>();
+        newInstance.reserve(array.length);
+
+        for (final var entry : array) {
+            assert null != entry.key;
+            assert null != entry.value;
+            final var hash = computeHash(entry.key);
+            final var index = newInstance.indexOf(entry.key, hash);
+
+            if (0 <= index) {
+                newInstance.values[index] = entry.value;
+            } else {
+                newInstance.rawAdd(entry.key, entry.value, hash);
+            }
+        }
+
         return newInstance;
     }
 
     /**
-     * Computes hashes using java's hashCode which has the problem of giving a signed hash.
-     * This problem is solved making the abs of the hashCode and adding to it the biggest positive Integer
-     * in case the hashCode was negative, returning the result as a long.
-     * In this way we can avoid collisions while keeping the hash positive.
+     * Computes hashes using java's hashCode, mixing its high bits into the low ones
+     * since the capacity is a power of two and only the low bits are used to select the slot.
      *
      * @param key The item to hash.
      * @return The hash of the item.
      */
-    private long computeHash(final K key) {
+    private static int computeHash(final Object key) {
         final var hashCode = key.hashCode();
-        return ((long) Math.abs(hashCode)) + ((0 > hashCode) ? ((long) (Integer.MAX_VALUE)) : 0L);
+        return hashCode ^ (hashCode >>> 16);
     }
 
     /**
@@ -110,8 +152,18 @@ public final class HashIndirizzamentoAperto<K, V> implements IMap<K, V> {
     public V add(final K key, final V value) {
         assert null != key;
         assert null != value;
+        final var hash = computeHash(key);
+        final var index = this.indexOf(key, hash);
+
+        if (0 <= index) {
+            final var oldValue = this.values[index];
+            this.values[index] = value;
+            return oldValue;
+        }
+
         this.reserve(1);
-        return this.rawAdd(key, value);
+        this.rawAdd(key, value, hash);
+        return null;
     }
 
     /**
@@ -133,23 +185,18 @@ public final class HashIndirizzamentoAperto<K, V> implements IMap<K, V> {
     @Override
     public V getOrAdd(final K key, final Supplier<V> supplier) {
         assert null != key;
-        this.reserve(1);
-        var index = this.indexOf(key);
+        final var hash = computeHash(key);
+        final var index = this.indexOf(key, hash);
 
         if (0 <= index) {
             return this.values[index];
         }
 
-        index = -(index + 1);
-        assert index < this.capacity();
-
         final var value = supplier.get();
         assert null != value;
 
-        this.values[index] = value;
-        this.keys[index] = key;
-        this.size += 1;
-
+        this.reserve(1);
+        this.rawAdd(key, value, hash);
         return value;
     }
 
@@ -168,7 +215,7 @@ public final class HashIndirizzamentoAperto<K, V> implements IMap<K, V> {
     @Override
     public V get(final K key) {
         assert null != key;
-        final var index = this.indexOf(key);
+        final var index = this.indexOf(key, computeHash(key));
         return (0 <= index) ? this.values[index] : null;
     }
 
@@ -187,17 +234,31 @@ public final class HashIndirizzamentoAperto<K, V> implements IMap<K, V> {
     @Override
     public V remove(final K key) {
         assert null != key;
-        final var index = this.indexOf(key);
+        var index = this.indexOf(key, computeHash(key));
 
-        if (0 <= index) {
-            final var value = this.values[index];
-            this.values[index] = null;
-            this.keys[index] = this.DELETED;
-            this.size -= 1;
-            return value;
+        if (0 > index) {
+            return null;
         }
 
-        return null;
+        final var value = this.values[index];
+        final var mask = this.capacity() - 1;
+
+        // Shifts back by one slot the following items of the cluster, until an empty slot
+        // or an item already in its home slot is found.
+        var next = (index + 1) & mask;
+        while (null != this.keys[next] && 0 != this.distance(next)) {
+            this.hashes[index] = this.hashes[next];
+            this.values[index] = this.values[next];
+            this.keys[index] = this.keys[next];
+            index = next;
+            next = (next + 1) & mask;
+        }
+
+        this.values[index] = null;
+        this.keys[index] = null;
+        this.size -= 1;
+
+        return value;
     }
 
     /**
@@ -215,7 +276,7 @@ public final class HashIndirizzamentoAperto<K, V> implements IMap<K, V> {
     @Override
     public boolean has(final K key) {
         assert null != key;
-        return 0 <= this.indexOf(key);
+        return 0 <= this.indexOf(key, computeHash(key));
     }
 
     /**
@@ -231,7 +292,7 @@ public final class HashIndirizzamentoAperto<K, V> implements IMap<K, V> {
     @Override
     public Stream<K> keys() {
         return Arrays.stream(this.keys)
-                .filter(k -> null != k && this.DELETED != k)
+                .filter(Objects::nonNull)
                 .limit(this.size);
     }
 
@@ -266,14 +327,30 @@ public final class HashIndirizzamentoAperto<K, V> implements IMap<K, V> {
     public Stream<Entry<K, V>> stream() {
         return IntStream
                 .range(0, this.capacity())
-                .filter(i -> {
-                    final var k = this.keys[i];
-                    return null != k && this.DELETED != k;
-                })
+                .filter(i -> null != this.keys[i])
                 .limit(this.size)
                 .mapToObj(i -> new Entry<>(this.keys[i], this.values[i]));
     }
 
+    /**
+     * Performs the given action on each pair key-value of the map, without allocating an entry for each one.
+     * <p>
+     * <pre>
+     * Time complexity: O(n + capacity)
+     * </pre>
+     * <p>
+     *
+     * @param action The action to perform on each key and value.
+     */
+    @Override
+    public void forEach(final BiConsumer<? super K, ? super V> action) {
+        for (int i = 0; this.keys.length > i; ++i) {
+            if (null != this.keys[i]) {
+                action.accept(this.keys[i], this.values[i]);
+            }
+        }
+    }
+
     /**
      * If needed, expands the map to support at least additionalItems more.
      * <p>
@@ -287,6 +364,7 @@ public final class HashIndirizzamentoAperto<K, V> implements IMap<K, V> {
      * <p>
      *
      * @param additionalItems Minimum number of additional items that the map must be able to accommodate.
+     * @implNote The capacity is always a power of two, so that slots are selected masking the hash.
      */
     @SuppressWarnings({"unchecked"})
     public void reserve(final int additionalItems) {
@@ -299,19 +377,23 @@ public final class HashIndirizzamentoAperto<K, V> implements IMap<K, V> {
             return;
         }
 
-        final var newCapacity = (int) Math.ceil((this.size + additionalItems) / 0.6);
+        final var minCapacity = (int) Math.ceil((this.size + additionalItems) / 0.6);
+        final var newCapacity = Math.max(2, Integer.highestOneBit(minCapacity - 1) << 1);
+        final var tmpHashes = this.hashes;
         final var tmpValues = this.values;
         final var tmpKeys = this.keys;
 
+        this.hashes = new int[newCapacity];
         this.values = (V[]) new Object[newCapacity];
         this.keys = (K[]) new Object[newCapacity];
         this.size = 0;
 
+        // Rehashing uses the stored hashes, so hashCode is never called again on the keys.
         for (int i = 0; i < tmpKeys.length; ++i) {
             final var k = tmpKeys[i];
 
-            if (null != k && this.DELETED != k) {
-                this.rawAdd(k, tmpValues[i]);
+            if (null != k) {
+                this.rawAdd(k, tmpValues[i], tmpHashes[i]);
             }
         }
     }
@@ -362,11 +444,19 @@ public final class HashIndirizzamentoAperto<K, V> implements IMap<K, V> {
     }
 
     /*
-     * Gets the index of a specified key if present, otherwise it indicates where to place it.
-     * <pre>
-     * present -> return the index of the key in the array (index is in range [0, length - 1]).
-     * absent  -> return the index in which the key would be placed in the array (index is in range [-1, -length]).
-     * </pre>
+     * Gets the distance of the item at the specified index from its home slot.
+     *
+     * Time complexity: O(1)
+     */
+    private int distance(final int index) {
+        final var mask = this.capacity() - 1;
+        return (index - (this.hashes[index] & mask)) & mask;
+    }
+
+    /*
+     * Gets the index of a specified key if present, -1 otherwise.
+     * The probing stops at the first empty slot or at the first item closer to its home slot than the key would be,
+     * since Robin Hood insertion would have placed the key before it.
      * <p>
      * <pre>
      *                  worst                              best
@@ -374,74 +464,70 @@ public final class HashIndirizzamentoAperto<K, V> implements IMap<K, V> {
      * </pre>
      * <p>
      *
-     * @param key The key to locate.
-     * @return A positive index if the key is in the map, a negative index if the key is not in the map.
+     * @param key  The key to locate.
+     * @param hash The hash of the key.
+     * @return The index of the key if it is in the map, -1 otherwise.
      */
-    private int indexOf(final K key) {
+    private int indexOf(final K key, final int hash) {
         assert null != key;
-        final var capacity = this.capacity();
 
-        if (0 == capacity) {
+        if (this.isEmpty()) {
             return -1;
         }
 
-        final var hash = this.computeHash(key);
-        var emptyIndex = (int) (hash % capacity);
-
-        if (!this.isEmpty()) {
-            var deletedNotAlreadyEncountered = true;
-
-            for (int i = 0, index = emptyIndex; i < capacity; ++i, index = (int) ((hash + i) % capacity)) {
-                final var keyItem = this.keys[index];
-
-                if (null == keyItem) {
-                    if (deletedNotAlreadyEncountered) {
-                        emptyIndex = index;
-                    }
-                    break;
-                }
-                if (this.DELETED == keyItem) {
-                    if (deletedNotAlreadyEncountered) {
-                        emptyIndex = index;
-                    }
-                    deletedNotAlreadyEncountered = false;
-                    continue;
-                }
-                if (key.equals(keyItem)) {
-                    return index;
-                }
+        final var mask = this.capacity() - 1;
+        for (int index = hash & mask, distance = 0; ; index = (index + 1) & mask, ++distance) {
+            final var keyItem = this.keys[index];
+
+            if (null == keyItem || this.distance(index) < distance) {
+                return -1;
+            }
+            if (hash == this.hashes[index] && key.equals(keyItem)) {
+                return index;
             }
         }
-
-        return -(emptyIndex + 1);
     }
 
     /*
-     * Adds a (key-value) into the map.
+     * Adds a (key-value) which is not in the map.
+     * While probing, the carried item is swapped with any item closer to its home slot,
+     * which then continues the probing in its place.
      *
      * Note.1: this add does not call reserve method.
      * Note.2:
      *                  worst                              best
      * Time complexity: O(n) -> due to linear probing      O(1)
      */
-    private V rawAdd(final K key, final V value) {
+    private void rawAdd(K key, V value, int hash) {
         assert null != key;
         assert null != value;
-        var index = this.indexOf(key);
-
-        if (0 <= index) {
-            final var oldValue = this.values[index];
-            this.values[index] = value;
-            return oldValue;
-        }
+        assert this.size < this.capacity();
+
+        final var mask = this.capacity() - 1;
+        for (int index = hash & mask, distance = 0; ; index = (index + 1) & mask, ++distance) {
+            if (null == this.keys[index]) {
+                this.hashes[index] = hash;
+                this.values[index] = value;
+                this.keys[index] = key;
+                this.size += 1;
+                return;
+            }
 
-        index = -(index + 1);
-        assert index < this.capacity();
+            final var itemDistance = this.distance(index);
+            if (itemDistance < distance) {
+                final var tmpHash = this.hashes[index];
+                final var tmpValue = this.values[index];
+                final var tmpKey = this.keys[index];
 
-        this.keys[index] = key;
-        this.values[index] = value;
-        this.size += 1;
+                this.hashes[index] = hash;
+                this.values[index] = value;
+                this.keys[index] = key;
 
-        return null;
+                hash = tmpHash;
+                value = tmpValue;
+                key = tmpKey;
+                distance = itemDistance;
+            }
+        }
     }
 }
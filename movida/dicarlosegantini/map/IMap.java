@@ -29,6 +29,8 @@ package movida.dicarlosegantini.map;
 
 import movida.dicarlosegantini.Entry;
 
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
@@ -114,6 +116,31 @@ public interface IMap<K, V> {
      */
     Stream<Entry<K, V>> stream();
 
+    /**
+     * Performs the given action on each pair key-value of the map, without allocating an entry for each one.
+     *
+     * @param action The action to perform on each key and value.
+     */
+    void forEach(final BiConsumer<? super K, ? super V> action);
+
+    /**
+     * Performs the given action on each key of the map.
+     *
+     * @param action The action to perform on each key.
+     */
+    default void forEachKey(final Consumer<? super K> action) {
+        this.forEach((key, value) -> action.accept(key));
+    }
+
+    /**
+     * Performs the given action on each value of the map.
+     *
+     * @param action The action to perform on each value.
+     */
+    default void forEachValue(final Consumer<? super V> action) {
+        this.forEach((key, value) -> action.accept(value));
+    }
+
     /**
      * If needed, expands the map to support at least additionalItems more.
      *
@@ -27,9 +27,15 @@
 
 package movida.dicarlosegantini.map;
 
+import movida.dicarlosegantini.Entry;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -40,11 +46,72 @@ class IMapTest {
         this.testRemove(new HashIndirizzamentoAperto<>());
         this.testBasicOp(new HashIndirizzamentoAperto<>());
         this.testStream(new HashIndirizzamentoAperto<>());
+        this.testForEach(new HashIndirizzamentoAperto<>());
         this.testClear(new HashIndirizzamentoAperto<>());
         this.testGetOrAdd(new HashIndirizzamentoAperto<>());
         this.testEmptyMap(new HashIndirizzamentoAperto<>());
         this.testToHashIndirizzamentoAperto(new HashIndirizzamentoAperto<>());
         this.testToHashIndirizzamentoAperto(new ArrayOrdinato<>());
+        this.testChurn(new HashIndirizzamentoAperto<>());
+    }
+
+    @Test
+    void testSwissTable() {
+        this.testAdd(new SwissTable<>());
+        this.testRemove(new SwissTable<>());
+        this.testBasicOp(new SwissTable<>());
+        this.testStream(new SwissTable<>());
+        this.testForEach(new SwissTable<>());
+        this.testClear(new SwissTable<>());
+        this.testGetOrAdd(new SwissTable<>());
+        this.testEmptyMap(new SwissTable<>());
+        this.testToSwissTable(new SwissTable<>());
+        this.testToSwissTable(new ArrayOrdinato<>());
+        this.testChurn(new SwissTable<>());
+    }
+
+    @Test
+    void testHashConcatenamento() {
+        this.testAdd(new HashConcatenamento<>());
+        this.testRemove(new HashConcatenamento<>());
+        this.testBasicOp(new HashConcatenamento<>());
+        this.testStream(new HashConcatenamento<>());
+        this.testForEach(new HashConcatenamento<>());
+        this.testClear(new HashConcatenamento<>());
+        this.testGetOrAdd(new HashConcatenamento<>());
+        this.testEmptyMap(new HashConcatenamento<>());
+        this.testToHashConcatenamento(new HashConcatenamento<>());
+        this.testToHashConcatenamento(new ArrayOrdinato<>());
+        this.testChurn(new HashConcatenamento<>());
+    }
+
+    @Test
+    void testListaNonOrdinata() {
+        this.testAdd(new ListaNonOrdinata<>());
+        this.testRemove(new ListaNonOrdinata<>());
+        this.testBasicOp(new ListaNonOrdinata<>());
+        this.testStream(new ListaNonOrdinata<>());
+        this.testForEach(new ListaNonOrdinata<>());
+        this.testClear(new ListaNonOrdinata<>());
+        this.testGetOrAdd(new ListaNonOrdinata<>());
+        this.testEmptyMap(new ListaNonOrdinata<>());
+        this.testToListaNonOrdinata(new ListaNonOrdinata<>());
+        this.testToListaNonOrdinata(new ArrayOrdinato<>());
+
+        // get and has don't reorder the keys, getOrAdd moves them to the front
+        final var sut = new ListaNonOrdinata<Integer, Integer>();
+        for (int i = 0; 5 > i; ++i) {
+            sut.add(i, i);
+        }
+        assertEquals(3, sut.get(3));
+        assertTrue(sut.has(4));
+        assertArrayEquals(new Integer[]{0, 1, 2, 3, 4}, sut.keys().toArray(Integer[]::new));
+        assertEquals(3, sut.getOrAdd(3, () -> -1));
+        assertArrayEquals(new Integer[]{3, 0, 1, 2, 4}, sut.keys().toArray(Integer[]::new));
+        assertEquals(4, sut.getOrAdd(4, () -> -1));
+        assertEquals(-1, sut.getOrAdd(5, () -> -1));
+        assertArrayEquals(new Integer[]{4, 3, 0, 1, 2, 5}, sut.keys().toArray(Integer[]::new));
+        assertArrayEquals(new Integer[]{4, 3, 0, 1, 2, -1}, sut.values().toArray(Integer[]::new));
     }
 
     @Test
@@ -53,13 +120,173 @@ class IMapTest {
         this.testRemove(new ArrayOrdinato<>());
         this.testBasicOp(new ArrayOrdinato<>());
         this.testStream(new ArrayOrdinato<>());
+        this.testForEach(new ArrayOrdinato<>());
         this.testClear(new ArrayOrdinato<>());
         this.testGetOrAdd(new ArrayOrdinato<>());
         this.testEmptyMap(new ArrayOrdinato<>());
+        this.testOrderedKeys(new ArrayOrdinato<>());
         this.testToArrayOrdinato(new ArrayOrdinato<>());
         this.testToArrayOrdinato(new HashIndirizzamentoAperto<>());
     }
 
+    @Test
+    void testFromEntries() {
+        this.testFromEntries(ArrayOrdinato.fromEntries(this.shuffledEntries()), 500);
+        this.testFromEntries(HashIndirizzamentoAperto.fromEntries(this.shuffledEntries()), 500);
+        this.testFromEntries(ArrayOrdinato.fromEntries(Stream.empty()), 0);
+        this.testFromEntries(HashIndirizzamentoAperto.fromEntries(Stream.empty()), 0);
+
+        // The keys of a hash map come in no order, so they must be sorted.
+        final var fromHash = ArrayOrdinato.from(HashIndirizzamentoAperto.fromEntries(this.shuffledEntries()));
+        this.testFromEntries(fromHash, 500);
+        assertArrayEquals(IntStream.range(0, 500).boxed().toArray(), fromHash.keys().toArray());
+    }
+
+    // Keys in [0, 500), each one given twice: first with a negative value, then with its key times 10.
+    Stream<Entry<Integer, Integer>> shuffledEntries() {
+        final var keys = new ArrayList<Integer>();
+        for (int i = 0; 500 > i; ++i) {
+            keys.add(i);
+        }
+        Collections.shuffle(keys, new Random(42));
+
+        return Stream.concat(
+                keys.stream().map(k -> new Entry<>(k, -1)),
+                keys.stream().map(k -> new Entry<>(k, k * 10))
+        );
+    }
+
+    void testFromEntries(final IMap<Integer, Integer> sut, final int expectedSize) {
+        assertEquals(expectedSize, sut.size());
+
+        for (int i = 0; expectedSize > i; ++i) {
+            assertEquals(i * 10, sut.get(i));
+        }
+        assertFalse(sut.has(expectedSize));
+
+        // The map keeps working after being bulk loaded.
+        assertNull(sut.add(1000, 1));
+        assertEquals(1, sut.remove(1000));
+        assertEquals(expectedSize, sut.size());
+    }
+
+    @Test
+    void testArrayOrdinatoFrozen() {
+        final var sut = new ArrayOrdinato<Integer, Integer>();
+        for (int i = 0; 1000 > i; ++i) {
+            sut.add(2 * i, i);
+        }
+
+        sut.freeze();
+        assertTrue(sut.isFrozen());
+
+        for (int i = 0; 1000 > i; ++i) {
+            assertEquals(i, sut.get(2 * i));
+            assertFalse(sut.has(2 * i + 1));
+        }
+
+        // replacing a value keeps the keys frozen
+        assertEquals(0, sut.add(0, -1));
+        assertTrue(sut.isFrozen());
+        assertEquals(-1, sut.get(0));
+
+        assertNull(sut.add(1, 1));
+        assertFalse(sut.isFrozen());
+        assertEquals(1, sut.get(1));
+
+        sut.freeze();
+        assertEquals(1, sut.remove(1));
+        assertFalse(sut.isFrozen());
+        assertNull(sut.get(1));
+    }
+
+    @Test
+    void testABR() {
+        this.testAdd(new ABR<>());
+        this.testRemove(new ABR<>());
+        this.testBasicOp(new ABR<>());
+        this.testStream(new ABR<>());
+        this.testForEach(new ABR<>());
+        this.testClear(new ABR<>());
+        this.testGetOrAdd(new ABR<>());
+        this.testEmptyMap(new ABR<>());
+        this.testOrderedKeys(new ABR<>());
+        this.testToABR(new ABR<>());
+        this.testToABR(new HashIndirizzamentoAperto<>());
+
+        // sorted insertions must not degenerate the tree into a list (which would overflow the stack)
+        final var sut = new ABR<Integer, Integer>();
+        for (int i = 0; 200000 > i; ++i) {
+            sut.add(i, i);
+        }
+        for (int i = 0; 200000 > i; i += 2) {
+            assertEquals(i, sut.remove(i));
+        }
+        assertEquals(100000, sut.size());
+    }
+
+    @Test
+    void testAVL() {
+        this.testAdd(new AVL<>());
+        this.testRemove(new AVL<>());
+        this.testBasicOp(new AVL<>());
+        this.testStream(new AVL<>());
+        this.testForEach(new AVL<>());
+        this.testClear(new AVL<>());
+        this.testGetOrAdd(new AVL<>());
+        this.testEmptyMap(new AVL<>());
+        this.testOrderedKeys(new AVL<>());
+        this.testToAVL(new AVL<>());
+        this.testToAVL(new HashIndirizzamentoAperto<>());
+    }
+
+    @Test
+    void testAlberi23() {
+        this.testAdd(new Alberi23<>());
+        this.testRemove(new Alberi23<>());
+        this.testBasicOp(new Alberi23<>());
+        this.testStream(new Alberi23<>());
+        this.testForEach(new Alberi23<>());
+        this.testClear(new Alberi23<>());
+        this.testGetOrAdd(new Alberi23<>());
+        this.testEmptyMap(new Alberi23<>());
+        this.testOrderedKeys(new Alberi23<>());
+        this.testToAlberi23(new Alberi23<>());
+        this.testToAlberi23(new HashIndirizzamentoAperto<>());
+    }
+
+    @Test
+    void testBTree() {
+        this.testAdd(new BTree<>(2));
+        this.testRemove(new BTree<>(2));
+        this.testBasicOp(new BTree<>());
+        this.testStream(new BTree<>(2));
+        this.testClear(new BTree<>(2));
+        this.testGetOrAdd(new BTree<>());
+        this.testEmptyMap(new BTree<>());
+        this.testOrderedKeys(new BTree<>(2));
+        this.testOrderedKeys(new BTree<>(3));
+        this.testOrderedKeys(new BTree<>());
+        this.testToBTree(new BTree<>());
+        this.testToBTree(new HashIndirizzamentoAperto<>());
+
+        for (int size = 0; 200 > size; ++size) {
+            final var sut = BTree.fromSorted(IntStream.range(0, size).mapToObj(i -> new Entry<>(i, -i)), 2);
+            assertEquals(size, sut.size());
+            assertArrayEquals(IntStream.range(0, size).boxed().toArray(), sut.keys().toArray());
+
+            // the bulk loaded tree must stay valid while it is updated
+            for (int i = 0; size > i; i += 2) {
+                assertEquals(-i, sut.remove(i));
+            }
+            for (int i = 0; size > i; ++i) {
+                assertEquals((1 == i % 2) ? -i : null, sut.get(i));
+            }
+            assertNull(sut.add(size, -size));
+            assertEquals(size / 2 + 1, sut.size());
+        }
+    }
+
     void testRemove(final IMap<Integer, Integer> sut) {
         final int SIZE = 16;
         for (int i = 0; SIZE > i; ++i) {
@@ -101,6 +328,26 @@ class IMapTest {
         }
     }
 
+    void testChurn(final IMap<Integer, Integer> sut) {
+        // a long sequence of adds and removes must not make the map grow
+        for (int i = 0; 8 > i; ++i) {
+            sut.add(-(i + 1), i);
+        }
+        final var capacity = sut.capacity();
+
+        for (int i = 0; 100000 > i; ++i) {
+            assertNull(sut.add(i * 31, i));
+            assertEquals(i, sut.remove(i * 31));
+            assertFalse(sut.has(i * 31));
+        }
+
+        assertEquals(8, sut.size());
+        assertEquals(capacity, sut.capacity());
+        for (int i = 0; 8 > i; ++i) {
+            assertEquals(i, sut.get(-(i + 1)));
+        }
+    }
+
     void testEmptyMap(final IMap<Integer, Integer> sut) {
         assertTrue(sut.isEmpty());
         assertNull(sut.get(-42));
@@ -193,6 +440,26 @@ class IMapTest {
         }
     }
 
+    void testForEach(final IMap<Integer, Integer> sut) {
+        for (int i = 0; 200 > i; ++i) {
+            sut.add(i, i * 10);
+        }
+        for (int i = 0; 200 > i; i += 3) {
+            sut.remove(i);
+        }
+
+        final var keys = new ArrayList<Integer>();
+        sut.forEach((key, value) -> {
+            assertEquals(key * 10, value);
+            keys.add(key);
+        });
+        assertEquals(sut.keys().collect(Collectors.toList()), keys);
+
+        final var values = new ArrayList<Integer>();
+        sut.forEachValue(values::add);
+        assertEquals(sut.values().collect(Collectors.toList()), values);
+    }
+
     void testToHashIndirizzamentoAperto(final IMap<Integer, Integer> source) {
         var sut = HashIndirizzamentoAperto.from(source);
 
@@ -215,6 +482,72 @@ class IMapTest {
         );
     }
 
+    void testToSwissTable(final IMap<Integer, Integer> source) {
+        var sut = SwissTable.from(source);
+
+        assertTrue(sut.isEmpty());
+        assertEquals(0, sut.size());
+        assertEquals(0, sut.capacity());
+        for (int i = 1; 10 > i; ++i) {
+            source.add(i, i * 10);
+        }
+
+        sut = SwissTable.from(source);
+        assertFalse(sut.isEmpty());
+        assertEquals(9, sut.size());
+        assertTrue(sut.capacity() >= sut.size());
+        assertEquals(
+                sut.size(),
+                sut.stream()
+                        .filter(e -> e.value == e.key * 10)
+                        .count()
+        );
+    }
+
+    void testToHashConcatenamento(final IMap<Integer, Integer> source) {
+        var sut = HashConcatenamento.from(source);
+
+        assertTrue(sut.isEmpty());
+        assertEquals(0, sut.size());
+        assertEquals(0, sut.capacity());
+        for (int i = 1; 10 > i; ++i) {
+            source.add(i, i * 10);
+        }
+
+        sut = HashConcatenamento.from(source);
+        assertFalse(sut.isEmpty());
+        assertEquals(9, sut.size());
+        assertTrue(sut.capacity() >= sut.size());
+        assertEquals(
+                sut.size(),
+                sut.stream()
+                        .filter(e -> e.value == e.key * 10)
+                        .count()
+        );
+    }
+
+    void testToListaNonOrdinata(final IMap<Integer, Integer> source) {
+        var sut = ListaNonOrdinata.from(source);
+
+        assertTrue(sut.isEmpty());
+        assertEquals(0, sut.size());
+        assertEquals(0, sut.capacity());
+        for (int i = 1; 10 > i; ++i) {
+            source.add(i, i * 10);
+        }
+
+        sut = ListaNonOrdinata.from(source);
+        assertFalse(sut.isEmpty());
+        assertEquals(9, sut.size());
+        assertTrue(sut.capacity() >= sut.size());
+        assertEquals(
+                sut.size(),
+                sut.stream()
+                        .filter(e -> e.value == e.key * 10)
+                        .count()
+        );
+    }
+
     void testToArrayOrdinato(final IMap<Integer, Integer> source) {
         var sut = ArrayOrdinato.from(source);
 
@@ -237,6 +570,126 @@ class IMapTest {
         );
     }
 
+    void testToABR(final IMap<Integer, Integer> source) {
+        var sut = ABR.from(source);
+
+        assertTrue(sut.isEmpty());
+        assertEquals(0, sut.size());
+        assertEquals(0, sut.capacity());
+        for (int i = 1; 10 > i; ++i) {
+            source.add(i, i * 10);
+        }
+
+        sut = ABR.from(source);
+        assertFalse(sut.isEmpty());
+        assertEquals(9, sut.size());
+        assertTrue(sut.capacity() >= sut.size());
+        assertEquals(
+                sut.size(),
+                sut.stream()
+                        .filter(e -> e.value == e.key * 10)
+                        .count()
+        );
+    }
+
+    void testToAVL(final IMap<Integer, Integer> source) {
+        var sut = AVL.from(source);
+
+        assertTrue(sut.isEmpty());
+        assertEquals(0, sut.size());
+        assertEquals(0, sut.capacity());
+        for (int i = 1; 10 > i; ++i) {
+            source.add(i, i * 10);
+        }
+
+        sut = AVL.from(source);
+        assertFalse(sut.isEmpty());
+        assertEquals(9, sut.size());
+        assertTrue(sut.capacity() >= sut.size());
+        assertEquals(
+                sut.size(),
+                sut.stream()
+                        .filter(e -> e.value == e.key * 10)
+                        .count()
+        );
+    }
+
+    void testToAlberi23(final IMap<Integer, Integer> source) {
+        var sut = Alberi23.from(source);
+
+        assertTrue(sut.isEmpty());
+        assertEquals(0, sut.size());
+        assertEquals(0, sut.capacity());
+        for (int i = 1; 10 > i; ++i) {
+            source.add(i, i * 10);
+        }
+
+        sut = Alberi23.from(source);
+        assertFalse(sut.isEmpty());
+        assertEquals(9, sut.size());
+        assertTrue(sut.capacity() >= sut.size());
+        assertEquals(
+                sut.size(),
+                sut.stream()
+                        .filter(e -> e.value == e.key * 10)
+                        .count()
+        );
+    }
+
+    void testToBTree(final IMap<Integer, Integer> source) {
+        var sut = BTree.from(source);
+
+        assertTrue(sut.isEmpty());
+        assertEquals(0, sut.size());
+        assertEquals(0, sut.capacity());
+        for (int i = 1; 10 > i; ++i) {
+            source.add(i, i * 10);
+        }
+
+        sut = BTree.from(source);
+        assertFalse(sut.isEmpty());
+        assertEquals(9, sut.size());
+        assertTrue(sut.capacity() >= sut.size());
+        assertEquals(
+                sut.size(),
+                sut.stream()
+                        .filter(e -> e.value == e.key * 10)
+                        .count()
+        );
+    }
+
+    void testOrderedKeys(final IMap<Integer, Integer> sut) {
+        final int SIZE = 1024;
+        final var keys = new ArrayList<Integer>();
+        for (int i = 0; SIZE > i; ++i) {
+            keys.add(i);
+        }
+
+        Collections.shuffle(keys, new Random(42));
+        keys.forEach(k -> assertNull(sut.add(k, -k)));
+        assertEquals(SIZE, sut.size());
+        assertArrayEquals(
+                keys.stream().sorted().toArray(Integer[]::new),
+                sut.keys().toArray(Integer[]::new)
+        );
+
+        // remove every odd key, in shuffled order
+        keys.stream().filter(k -> 1 == k % 2).forEach(k -> assertEquals(-k, sut.remove(k)));
+        assertEquals(SIZE / 2, sut.size());
+        assertArrayEquals(
+                keys.stream().filter(k -> 0 == k % 2).sorted().toArray(Integer[]::new),
+                sut.keys().toArray(Integer[]::new)
+        );
+        assertArrayEquals(
+                keys.stream().filter(k -> 0 == k % 2).sorted().map(k -> -k).toArray(Integer[]::new),
+                sut.values().toArray(Integer[]::new)
+        );
+
+        for (int i = 0; SIZE > i; ++i) {
+            assertEquals(0 == i % 2, sut.has(i));
+        }
+    }
+
     void testClear(final IMap<Integer, Integer> sut) {
         assertTrue(sut.isEmpty());
         for (int i = 1; 10 > i; ++i) {
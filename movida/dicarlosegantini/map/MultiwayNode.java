@@ -0,0 +1,311 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 - Davide Di Carlo, Andrea Segantini
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package movida.dicarlosegantini.map;
+
+import movida.dicarlosegantini.array.BinarySearch;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Node of the multiway search trees (Alberi23 and BTree).
+ * It holds count sorted keys with their values and, unless it is a leaf, count + 1 children.
+ *
+ * @param <K> Type of the keys, must be comparable.
+ * @param <V> Type of the values.
+ */
+final class MultiwayNode<K, V> {
+    final K[] keys;
+    final V[] values;
+    final MultiwayNode<K, V>[] children;
+    int count;
+
+    @SuppressWarnings("unchecked")
+    MultiwayNode(final int maxKeys, final boolean leaf) {
+        this.keys = (K[]) new Comparable<?>[maxKeys];
+        this.values = (V[]) new Object[maxKeys];
+        this.children = leaf ? null : (MultiwayNode<K, V>[]) new MultiwayNode<?, ?>[maxKeys + 1];
+        this.count = 0;
+    }
+
+    boolean isLeaf() {
+        return null == this.children;
+    }
+
+    boolean isFull() {
+        return this.keys.length == this.count;
+    }
+
+    /*
+     * Inserts a key at index, shifting the following keys; rightChild (if any) is placed after the new key.
+     */
+    void insertAt(final int index, final K key, final V value, final MultiwayNode<K, V> rightChild) {
+        assert !this.isFull();
+        System.arraycopy(this.keys, index, this.keys, index + 1, this.count - index);
+        System.arraycopy(this.values, index, this.values, index + 1, this.count - index);
+        this.keys[index] = key;
+        this.values[index] = value;
+
+        if (!this.isLeaf()) {
+            System.arraycopy(this.children, index + 1, this.children, index + 2, this.count - index);
+            this.children[index + 1] = rightChild;
+        }
+
+        this.count += 1;
+    }
+
+    /*
+     * Removes the key at index, together with the child on its right if dropRightChild is true
+     * or with the child on its left otherwise.
+     */
+    void removeAt(final int index, final boolean dropRightChild) {
+        System.arraycopy(this.keys, index + 1, this.keys, index, this.count - index - 1);
+        System.arraycopy(this.values, index + 1, this.values, index, this.count - index - 1);
+
+        if (!this.isLeaf()) {
+            final var childIndex = dropRightChild ? index + 1 : index;
+            System.arraycopy(this.children, childIndex + 1, this.children, childIndex, this.count - childIndex);
+            this.children[this.count] = null;
+        }
+
+        this.count -= 1;
+        this.keys[this.count] = null;
+        this.values[this.count] = null;
+    }
+
+    /*
+     * Drops all the keys (and the children on their right) from newCount on.
+     */
+    void truncate(final int newCount) {
+        for (int i = newCount; this.count > i; ++i) {
+            this.keys[i] = null;
+            this.values[i] = null;
+            if (!this.isLeaf()) {
+                this.children[i + 1] = null;
+            }
+        }
+
+        this.count = newCount;
+    }
+
+    /*
+     * Merges the children at index and index + 1, together with the key that separates them.
+     *
+     * Time complexity: O(m) where m is the maximum number of keys of a node
+     */
+    void merge(final int index) {
+        final var left = this.children[index];
+        final var right = this.children[index + 1];
+
+        left.keys[left.count] = this.keys[index];
+        left.values[left.count] = this.values[index];
+        System.arraycopy(right.keys, 0, left.keys, left.count + 1, right.count);
+        System.arraycopy(right.values, 0, left.values, left.count + 1, right.count);
+        if (!left.isLeaf()) {
+            System.arraycopy(right.children, 0, left.children, left.count + 1, right.count + 1);
+        }
+        left.count += right.count + 1;
+
+        this.removeAt(index, true);
+    }
+
+    /*
+     * Moves the last key of the child at index into this node, and the separator into the child at index + 1.
+     *
+     * Time complexity: O(m) where m is the maximum number of keys of a node
+     */
+    void rotateRight(final int index) {
+        final var left = this.children[index];
+        final var right = this.children[index + 1];
+        final var last = left.count - 1;
+
+        right.insertAt(0, this.keys[index], this.values[index], null);
+        if (!right.isLeaf()) {
+            // insertAt left an empty child slot on the right of the key, while the borrowed child goes on its left.
+            right.children[1] = right.children[0];
+            right.children[0] = left.children[last + 1];
+        }
+
+        this.keys[index] = left.keys[last];
+        this.values[index] = left.values[last];
+        left.truncate(last);
+    }
+
+    /*
+     * Moves the first key of the child at index + 1 into this node, and the separator into the child at index.
+     *
+     * Time complexity: O(m) where m is the maximum number of keys of a node
+     */
+    void rotateLeft(final int index) {
+        final var left = this.children[index];
+        final var right = this.children[index + 1];
+
+        left.keys[left.count] = this.keys[index];
+        left.values[left.count] = this.values[index];
+        if (!left.isLeaf()) {
+            left.children[left.count + 1] = right.children[0];
+        }
+        left.count += 1;
+
+        this.keys[index] = right.keys[0];
+        this.values[index] = right.values[0];
+        // The first child of right has been moved into left, so it is dropped together with the key.
+        right.removeAt(0, false);
+    }
+
+    /*
+     * Gets the value associated with the specified key in the tree rooted at root (which may be null), null if absent.
+     * If replacement is not null, it replaces the found value.
+     *
+     * Time complexity: O(log(n))
+     */
+    static <K extends Comparable<K>, V> V find(final MultiwayNode<K, V> root, final K key, final V replacement) {
+        var node = root;
+
+        while (null != node) {
+            final var index = BinarySearch.search(node.keys, 0, node.count, key);
+
+            if (0 <= index) {
+                final var value = node.values[index];
+                if (null != replacement) {
+                    node.values[index] = replacement;
+                }
+                return value;
+            }
+
+            node = node.isLeaf() ? null : node.children[-(index + 1)];
+        }
+
+        return null;
+    }
+
+    /*
+     * In-order visit of the subtree: each key is visited between its left and its right child.
+     */
+    static <K, V> void forEach(final MultiwayNode<K, V> node, final BiConsumer<? super K, ? super V> action) {
+        for (int i = 0; node.count > i; ++i) {
+            if (!node.isLeaf()) {
+                forEach(node.children[i], action);
+            }
+            action.accept(node.keys[i], node.values[i]);
+        }
+
+        if (!node.isLeaf()) {
+            forEach(node.children[node.count], action);
+        }
+    }
+
+    /*
+     * Streams, in order, what reader reads from each key slot of the tree rooted at root (which may be null).
+     */
+    static <K, V, T> Stream<T> stream(final MultiwayNode<K, V> root, final int size,
+                                      final SlotReader<K, V, T> reader) {
+        final var characteristics = Spliterator.ORDERED | Spliterator.NONNULL;
+        final var spliterator = Spliterators.spliterator(new InOrderIterator<>(root, reader), size, characteristics);
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    @FunctionalInterface
+    interface SlotReader<K, V, T> {
+        T read(final MultiwayNode<K, V> node, final int index);
+    }
+
+    /*
+     * In-order visit of the tree, the path from the root to the current node is kept in a stack
+     * together with the index of the next key to visit in each node of the path.
+     */
+    private static final class InOrderIterator<K, V, T> implements Iterator<T> {
+        private final SlotReader<K, V, T> reader;
+        private MultiwayNode<K, V>[] path;
+        private int[] indices;
+        private int depth;
+
+        @SuppressWarnings("unchecked")
+        InOrderIterator(final MultiwayNode<K, V> root, final SlotReader<K, V, T> reader) {
+            this.reader = reader;
+            this.path = (MultiwayNode<K, V>[]) new MultiwayNode<?, ?>[16];
+            this.indices = new int[16];
+            this.depth = -1;
+
+            if (null != root && 0 < root.count) {
+                this.pushLeftPath(root);
+            }
+        }
+
+        private void pushLeftPath(MultiwayNode<K, V> node) {
+            while (true) {
+                this.depth += 1;
+                if (this.path.length == this.depth) {
+                    this.path = Arrays.copyOf(this.path, 2 * this.depth);
+                    this.indices = Arrays.copyOf(this.indices, 2 * this.depth);
+                }
+
+                this.path[this.depth] = node;
+                this.indices[this.depth] = 0;
+
+                if (node.isLeaf()) {
+                    break;
+                }
+                node = node.children[0];
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return 0 <= this.depth;
+        }
+
+        @Override
+        public T next() {
+            if (0 > this.depth) {
+                throw new NoSuchElementException();
+            }
+
+            final var node = this.path[this.depth];
+            final var index = this.indices[this.depth];
+            final var item = this.reader.read(node, index);
+            this.indices[this.depth] = index + 1;
+
+            if (!node.isLeaf()) {
+                this.pushLeftPath(node.children[index + 1]);
+            } else {
+                while (0 <= this.depth && this.indices[this.depth] >= this.path[this.depth].count) {
+                    this.depth -= 1;
+                }
+            }
+
+            return item;
+        }
+    }
+}
@@ -0,0 +1,533 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 - Davide Di Carlo, Andrea Segantini
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package movida.dicarlosegantini.map;
+
+import movida.dicarlosegantini.Entry;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * A map implementation using hashing and open addressing on groups of slots (Swiss table layout).
+ * <p>
+ * Every slot has a control byte: it is either EMPTY, DELETED or holds the lowest 7 bits of the hash of its key.
+ * The control bytes of a group of 8 slots are packed in a long, so a whole group is matched against the hash
+ * of the searched key with a few arithmetic operations (SWAR: SIMD within a register), and equals is called only
+ * on the slots whose 7 bits match, which almost always contain the searched key.
+ * Groups are visited in triangular order, and the probing stops at the first group with an EMPTY slot.
+ *
+ * @param <K> Type of the keys.
+ * @param <V> Type of the values.
+ */
+public final class SwissTable<K, V> implements IMap<K, V> {
+    private static final int GROUP_WIDTH = 8;
+    private static final long EMPTY = 0x80L;
+    private static final long DELETED = 0xFEL;
+    private static final long LSB = 0x0101010101010101L;
+    private static final long MSB = 0x8080808080808080L;
+    private static final long EMPTY_GROUP = EMPTY * LSB;
+
+    // One word of control bytes for each group, the control byte of slot i is the byte (i % 8) of word (i / 8).
+    private long[] controls;
+    private V[] values;
+    private K[] keys;
+    private int size;
+    // Number of slots not EMPTY (used by a key or DELETED).
+    private int used;
+
+    @SuppressWarnings({"unchecked"})
+    public SwissTable() {
+        this.controls = new long[0];
+        this.values = (V[]) new Object[0];
+        this.keys = (K[]) new Object[0];
+        this.size = 0;
+        this.used = 0;
+    }
+
+    /**
+     * Makes a SwissTable from another map.
+     * <p>
+     * <pre>
+     * Time complexity: O(n)
+     * </pre>
+     * <p>
+     *
+     * @param map  The instance of another map.
+     * @param <K1> The type of the keys.
+     * @param <V1> The type of the values.
+     * @return A SwissTable made from the specified map.
+     */
+    public static <K1, V1> IMap<K1, V1> from(final IMap<K1, V1> map) {
+        final var newInstance = new SwissTable<K1, V1>();
+        newInstance.reserve(map.size());
+        map.forEach(newInstance::add);
+        return newInstance;
+    }
+
+    /**
+     * Computes hashes using java's hashCode, mixing its bits since the low 7 bits of the hash are stored
+     * in the control bytes while the others select the group.
+     *
+     * @param key The item to hash.
+     * @return The hash of the item.
+     */
+    private static int computeHash(final Object key) {
+        var hash = key.hashCode();
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        return hash;
+    }
+
+    /*
+     * Finds the bytes of the group which are equal to the given byte.
+     * The result has the high bit set in every matching byte, it can have false positives
+     * (only in the bytes following a true match) which are discarded comparing the keys.
+     */
+    private static long matchByte(final long group, final long b) {
+        final var x = group ^ (b * LSB);
+        return (x - LSB) & ~x & MSB;
+    }
+
+    /*
+     * Finds the EMPTY bytes of the group: only EMPTY has the high bit set and the following one clear.
+     */
+    private static long matchEmpty(final long group) {
+        return group & (~group << 1) & MSB;
+    }
+
+    /*
+     * Finds the EMPTY or DELETED bytes of the group: they are the only ones with the high bit set.
+     */
+    private static long matchEmptyOrDeleted(final long group) {
+        return group & MSB;
+    }
+
+    /*
+     * Gets the position in its group of the lowest byte set in a match.
+     */
+    private static int lowestMatch(final long match) {
+        return Long.numberOfTrailingZeros(match) >>> 3;
+    }
+
+    /**
+     * Adds a value into the map, with the specified key.
+     * <p>
+     * <pre>
+     *                   worst   best
+     * Time complexity:  O(n)    O(1)
+     *
+     * Worst case: when the (key-value) is not in the map and an expansion + rehashing is needed.
+     * Best case: when expansion + rehashing is not needed.
+     * </pre>
+     * <p>
+     *
+     * @param key   The key associated to the value to add.
+     * @param value The value to add.
+     * @return if there where already a value associated with the specified key, it returns its value, otherwise null.
+     */
+    @Override
+    public V add(final K key, final V value) {
+        assert null != key;
+        assert null != value;
+        final var hash = computeHash(key);
+        final var index = this.indexOf(key, hash);
+
+        if (0 <= index) {
+            final var oldValue = this.values[index];
+            this.values[index] = value;
+            return oldValue;
+        }
+
+        this.reserve(1);
+        this.rawAdd(key, value, hash);
+        return null;
+    }
+
+    /**
+     * Gets the value with the specified key if present, otherwise it adds it.
+     * <p>
+     * <pre>
+     *                   worst   best
+     * Time complexity:  O(n)    O(1)
+     *
+     * Worst case: when the (key-value) is not in the map and an expansion + rehashing is needed.
+     * Best case: when expansion + rehashing is not needed.
+     * </pre>
+     * <p>
+     *
+     * @param key      The key associated to the value to get.
+     * @param supplier The function used to create the value if not present in the map.
+     * @return The value associated with the specified key if present, the supplied value otherwise.
+     */
+    @Override
+    public V getOrAdd(final K key, final Supplier<V> supplier) {
+        assert null != key;
+        final var hash = computeHash(key);
+        final var index = this.indexOf(key, hash);
+
+        if (0 <= index) {
+            return this.values[index];
+        }
+
+        final var value = supplier.get();
+        assert null != value;
+
+        this.reserve(1);
+        this.rawAdd(key, value, hash);
+        return value;
+    }
+
+    /**
+     * Gets the value with the specified key, null otherwise.
+     * <p>
+     * <pre>
+     *                  worst                              best
+     * Time complexity: O(n) -> due to probing             O(1)
+     * </pre>
+     * <p>
+     *
+     * @param key The key associated to the value to get.
+     * @return The value associated with the specified key if present, null otherwise.
+     */
+    @Override
+    public V get(final K key) {
+        assert null != key;
+        final var index = this.indexOf(key, computeHash(key));
+        return (0 <= index) ? this.values[index] : null;
+    }
+
+    /**
+     * Removes the value with the specified key.
+     * <p>
+     * <pre>
+     *                  worst                              best
+     * Time complexity: O(n) -> due to probing             O(1)
+     * </pre>
+     * <p>
+     *
+     * @param key The key associated to the value to remove.
+     * @return The removed value if present, null otherwise.
+     */
+    @Override
+    public V remove(final K key) {
+        assert null != key;
+        final var index = this.indexOf(key, computeHash(key));
+
+        if (0 > index) {
+            return null;
+        }
+
+        final var value = this.values[index];
+        final var group = this.controls[index / GROUP_WIDTH];
+
+        // A group with an EMPTY slot has never been full since the last rehash, so no probing went past it
+        // and the slot can be marked EMPTY again; otherwise it must be marked DELETED to keep the probing going.
+        if (0 != matchEmpty(group)) {
+            this.setControl(index, EMPTY);
+            this.used -= 1;
+        } else {
+            this.setControl(index, DELETED);
+        }
+
+        this.values[index] = null;
+        this.keys[index] = null;
+        this.size -= 1;
+
+        return value;
+    }
+
+    /**
+     * Checks If the specified key is in the map.
+     * <p>
+     * <pre>
+     *                  worst                              best
+     * Time complexity: O(n) -> due to probing             O(1)
+     * </pre>
+     * <p>
+     *
+     * @param key The key to search in the map.
+     * @return True if the key is found, false otherwise.
+     */
+    @Override
+    public boolean has(final K key) {
+        assert null != key;
+        return 0 <= this.indexOf(key, computeHash(key));
+    }
+
+    /**
+     * Steams the keys of the map.
+     * <p>
+     * <pre>
+     * Time complexity: O(n)
+     * </pre>
+     * <p>
+     *
+     * @return A stream of the keys in the map.
+     */
+    @Override
+    public Stream<K> keys() {
+        return Arrays.stream(this.keys)
+                .filter(Objects::nonNull)
+                .limit(this.size);
+    }
+
+    /**
+     * Steams the values of the map.
+     * <p>
+     * <pre>
+     * Time complexity: O(n)
+     * </pre>
+     * <p>
+     *
+     * @return A stream of the values in the map.
+     */
+    @Override
+    public Stream<V> values() {
+        return Arrays.stream(this.values)
+                .filter(Objects::nonNull)
+                .limit(this.size);
+    }
+
+    /**
+     * Streams the pairs key-value of the map.
+     * <p>
+     * <pre>
+     * Time complexity: O(n)
+     * </pre>
+     * <p>
+     *
+     * @return A stream of entries made of the key-value pairs.
+     */
+    @Override
+    public Stream<Entry<K, V>> stream() {
+        return IntStream
+                .range(0, this.capacity())
+                .filter(i -> null != this.keys[i])
+                .limit(this.size)
+                .mapToObj(i -> new Entry<>(this.keys[i], this.values[i]));
+    }
+
+    /**
+     * Performs the given action on each pair key-value of the map, without allocating an entry for each one.
+     * <p>
+     * <pre>
+     * Time complexity: O(n + capacity)
+     * </pre>
+     * <p>
+     *
+     * @param action The action to perform on each key and value.
+     */
+    @Override
+    public void forEach(final BiConsumer<? super K, ? super V> action) {
+        for (int i = 0; this.keys.length > i; ++i) {
+            if (null != this.keys[i]) {
+                action.accept(this.keys[i], this.values[i]);
+            }
+        }
+    }
+
+    /**
+     * If needed, expands the map to support at least additionalItems more.
+     * <p>
+     * <pre>
+     *                   worst   best
+     * Time complexity:  O(n)    O(1)
+     *
+     * Worst case: when expansion + rehashing is needed.
+     * Best case: when expansion + rehashing is not needed.
+     * </pre>
+     * <p>
+     *
+     * @param additionalItems Minimum number of additional items that the map must be able to accommodate.
+     * @implNote Used slots (including the DELETED ones) are kept below 7/8 of the capacity,
+     * so every probing eventually finds an EMPTY slot.
+     */
+    @SuppressWarnings({"unchecked"})
+    public void reserve(final int additionalItems) {
+        assert 0 <= additionalItems;
+
+        if ((this.used + additionalItems) <= (this.capacity() / 8) * 7) {
+            return;
+        }
+
+        final var minCapacity = (int) Math.ceil((this.size + additionalItems) / 0.6);
+        final var newCapacity = Math.max(GROUP_WIDTH, Integer.highestOneBit(minCapacity - 1) << 1);
+        final var tmpValues = this.values;
+        final var tmpKeys = this.keys;
+
+        this.controls = new long[newCapacity / GROUP_WIDTH];
+        Arrays.fill(this.controls, EMPTY_GROUP);
+        this.values = (V[]) new Object[newCapacity];
+        this.keys = (K[]) new Object[newCapacity];
+        this.size = 0;
+        this.used = 0;
+
+        for (int i = 0; i < tmpKeys.length; ++i) {
+            final var k = tmpKeys[i];
+
+            if (null != k) {
+                this.rawAdd(k, tmpValues[i], computeHash(k));
+            }
+        }
+    }
+
+    /**
+     * Gets the capacity of the map.
+     * <p>
+     * <pre>
+     * Time complexity: O(1)
+     * </pre>
+     * <p>
+     *
+     * @return The capacity of the map.
+     */
+    @Override
+    public int capacity() {
+        return this.keys.length;
+    }
+
+    /**
+     * Gets the size of the map.
+     * <p>
+     * <pre>
+     * Time complexity: O(1)
+     * </pre>
+     * <p>
+     *
+     * @return The size of the map.
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Clears the map making it empty.
+     * <p>
+     * <pre>
+     * Time complexity: O(n)
+     * </pre>
+     * <p>
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(this.controls, EMPTY_GROUP);
+        Arrays.fill(this.values, null);
+        Arrays.fill(this.keys, null);
+        this.size = 0;
+        this.used = 0;
+    }
+
+    private void setControl(final int index, final long control) {
+        final var shift = (index % GROUP_WIDTH) * 8;
+        final var group = index / GROUP_WIDTH;
+        this.controls[group] = (this.controls[group] & ~(0xFFL << shift)) | (control << shift);
+    }
+
+    /*
+     * Gets the index of a specified key if present, -1 otherwise.
+     * <p>
+     * <pre>
+     *                  worst                              best
+     * Time complexity: O(n) -> due to probing             O(1)
+     * </pre>
+     * <p>
+     *
+     * @param key  The key to locate.
+     * @param hash The hash of the key.
+     * @return The index of the key if it is in the map, -1 otherwise.
+     */
+    private int indexOf(final K key, final int hash) {
+        assert null != key;
+
+        if (this.isEmpty()) {
+            return -1;
+        }
+
+        final var groupMask = this.controls.length - 1;
+        final var fragment = hash & 0x7F;
+
+        for (int group = (hash >>> 7) & groupMask, step = 1; ; group = (group + step) & groupMask, ++step) {
+            final var word = this.controls[group];
+
+            for (var match = matchByte(word, fragment); 0 != match; match &= match - 1) {
+                final var index = group * GROUP_WIDTH + lowestMatch(match);
+                final var keyItem = this.keys[index];
+
+                if (null != keyItem && key.equals(keyItem)) {
+                    return index;
+                }
+            }
+
+            if (0 != matchEmpty(word)) {
+                return -1;
+            }
+        }
+    }
+
+    /*
+     * Adds a (key-value) which is not in the map, in the first EMPTY or DELETED slot of its probing sequence.
+     *
+     * Note.1: this add does not call reserve method.
+     * Note.2:
+     *                  worst                              best
+     * Time complexity: O(n) -> due to probing             O(1)
+     */
+    private void rawAdd(final K key, final V value, final int hash) {
+        assert null != key;
+        assert null != value;
+        assert this.used < this.capacity();
+
+        final var groupMask = this.controls.length - 1;
+
+        for (int group = (hash >>> 7) & groupMask, step = 1; ; group = (group + step) & groupMask, ++step) {
+            final var word = this.controls[group];
+            final var match = matchEmptyOrDeleted(word);
+
+            if (0 != match) {
+                final var position = lowestMatch(match);
+                final var index = group * GROUP_WIDTH + position;
+
+                if (EMPTY == ((word >>> (position * 8)) & 0xFFL)) {
+                    this.used += 1;
+                }
+
+                this.setControl(index, hash & 0x7F);
+                this.values[index] = value;
+                this.keys[index] = key;
+                this.size += 1;
+                return;
+            }
+        }
+    }
+}
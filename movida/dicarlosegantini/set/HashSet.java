@@ -28,6 +28,7 @@
 package movida.dicarlosegantini.set;
 
 import java.util.Arrays;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 /**
@@ -48,6 +49,53 @@ public final class HashSet<K> implements ISet<K> {
         this.size = 0;
     }
 
+    /**
+     * Makes an HashSet from another set.
+     * <p>
+     * <pre>
+     * Time complexity: O(n)
+     * </pre>
+     * <p>
+     *
+     * @param set  The instance of another set.
+     * @param <K1> The type of the items.
+     * @return An HashSet made from the specified set.
+     */
+    public static <K1> HashSet<K1> from(final ISet<K1> set) {
+        final var newInstance = new HashSet<K1>();
+        newInstance.reserve(set.size());
+        // The items of a set are unique, so they can be placed without searching them.
+        set.forEach(newInstance::rawPlace);
+        return newInstance;
+    }
+
+    /**
+     * Makes an HashSet from a stream of items, which may be repeated.
+     * The set is sized once for all the items, so it is never rehashed while they are placed.
+     * <p>
+     * <pre>
+     * Time complexity: O(n)
+     * </pre>
+     * <p>
+     *
+     * @param items The items to put in the set.
+     * @param <K1>  The type of the items.
+     * @return An HashSet made from the specified items.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K1> HashSet<K1> fromItems(final Stream<K1> items) {
+        final var array = (K1[]) items.toArray();
+        final var newInstance = new HashSet<K1>();
+        newInstance.reserve(array.length);
+
+        for (final var item : array) {
+            assert null != item;
+            newInstance.rawAdd(item);
+        }
+
+        return newInstance;
+    }
+
     /**
      * Computes hashes using java's hashCode which has the problem of giving a signed hash.
      * This problem is solved making the abs of the hashCode and adding to it the biggest positive Integer
@@ -191,6 +239,25 @@ public final class HashSet<K> implements ISet<K> {
                 .limit(this.size);
     }
 
+    /**
+     * Performs the given action on each item of the set.
+     * <p>
+     * <pre>
+     * Time complexity: O(n + capacity)
+     * </pre>
+     * <p>
+     *
+     * @param action The action to perform on each item.
+     */
+    @Override
+    public void forEach(final Consumer<? super K> action) {
+        for (final var key : this.keys) {
+            if (null != key && this.DELETED != key) {
+                action.accept(key);
+            }
+        }
+    }
+
     /**
      * If needed, expands the set to support at least additionalItems more.
      * <p>
@@ -329,6 +396,31 @@ public final class HashSet<K> implements ISet<K> {
         return -(emptyIndex + 1);
     }
 
+    /*
+     * Places an item which is not in the set in the first free slot of its probing sequence,
+     * without comparing it with the items already in the set.
+     *
+     * Note.1: this add does not call reserve method.
+     * Note.2:
+     *                  worst                              best
+     * Time complexity: O(n) -> due to linear probing      O(1)
+     */
+    private void rawPlace(final K key) {
+        assert null != key;
+        assert this.size < this.capacity();
+
+        final var capacity = this.capacity();
+        final var hash = this.computeHash(key);
+
+        for (int i = 0, index = (int) (hash % capacity); ; ++i, index = (int) ((hash + i) % capacity)) {
+            if (null == this.keys[index] || this.DELETED == this.keys[index]) {
+                this.keys[index] = key;
+                this.size += 1;
+                return;
+            }
+        }
+    }
+
     /*
      * Adds an item into the set.
      *
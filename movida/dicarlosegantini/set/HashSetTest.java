@@ -31,6 +31,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -125,6 +127,36 @@ class HashSetTest {
         assertEquals(EXPECTED, this.sut.stream().reduce(0, Integer::sum));
     }
 
+    @Test
+    void forEach() {
+        for (int i = 0; 32 > i; ++i) {
+            assertTrue(this.sut.add(i));
+        }
+        assertTrue(this.sut.remove(7));
+
+        final var sum = new int[]{0};
+        this.sut.forEach(k -> sum[0] += k);
+        assertEquals(this.sut.stream().reduce(0, Integer::sum), sum[0]);
+    }
+
+    @Test
+    void bulkLoad() {
+        final var items = IntStream.range(0, 1000).map(i -> i % 300).boxed();
+        final var set = HashSet.fromItems(items);
+        assertEquals(300, set.size());
+        for (int i = 0; 300 > i; ++i) {
+            assertTrue(set.has(i));
+        }
+        assertFalse(set.has(300));
+
+        assertTrue(set.remove(150));
+        final var copy = HashSet.from(set);
+        assertEquals(299, copy.size());
+        assertFalse(copy.has(150));
+        assertTrue(copy.add(150));
+        assertTrue(HashSet.fromItems(Stream.<Integer>empty()).isEmpty());
+    }
+
     @Test
     void clear() {
         final int SIZE = 16;
@@ -27,6 +27,7 @@
 
 package movida.dicarlosegantini.set;
 
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 /**
@@ -66,6 +67,13 @@ public interface ISet<K> {
      */
     Stream<K> stream();
 
+    /**
+     * Performs the given action on each item of the set.
+     *
+     * @param action The action to perform on each item.
+     */
+    void forEach(final Consumer<? super K> action);
+
     /**
      * If needed, expands the set to support at least additionalItems more.
      *
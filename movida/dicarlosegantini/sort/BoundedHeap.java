@@ -0,0 +1,159 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 - Davide Di Carlo, Andrea Segantini
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package movida.dicarlosegantini.sort;
+
+import java.util.Comparator;
+import java.util.function.IntFunction;
+
+/**
+ * Keeps the smallest items among the ones offered, at most capacity of them.
+ * The kept items are stored in a max-heap, so the greatest of them, the first to be discarded, is in the root.
+ * <p>
+ * <pre>
+ * Space complexity: O(capacity)
+ * </pre>
+ * <p>
+ *
+ * @param <T> Type of the items.
+ */
+public final class BoundedHeap<T> {
+    private final T[] heap;
+    private final Comparator<T> comparator;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public BoundedHeap(final int capacity, final Comparator<T> comparator) {
+        assert 0 <= capacity;
+
+        this.heap = (T[]) new Object[capacity];
+        this.comparator = comparator;
+        this.size = 0;
+    }
+
+    private void siftUp(int index) {
+        final var item = this.heap[index];
+
+        while (0 < index) {
+            final var parent = (index - 1) >>> 1;
+
+            if (0 <= this.comparator.compare(this.heap[parent], item)) {
+                break;
+            }
+
+            this.heap[index] = this.heap[parent];
+            index = parent;
+        }
+
+        this.heap[index] = item;
+    }
+
+    private void siftDown(int index) {
+        final var item = this.heap[index];
+        final var half = this.size >>> 1;
+
+        while (index < half) {
+            var child = 2 * index + 1;
+            final var right = child + 1;
+
+            if (right < this.size && 0 > this.comparator.compare(this.heap[child], this.heap[right])) {
+                child = right;
+            }
+
+            if (0 <= this.comparator.compare(item, this.heap[child])) {
+                break;
+            }
+
+            this.heap[index] = this.heap[child];
+            index = child;
+        }
+
+        this.heap[index] = item;
+    }
+
+    /**
+     * Offers an item to the heap, which keeps it if it's among the smallest items offered.
+     * <p>
+     * <pre>
+     * Time complexity: O(log(capacity))
+     * </pre>
+     * <p>
+     *
+     * @return <pre>
+     * kept -> true.
+     * discarded -> false.
+     * </pre>
+     */
+    public boolean offer(final T item) {
+        if (this.heap.length > this.size) {
+            this.heap[this.size] = item;
+            this.siftUp(this.size);
+            this.size += 1;
+            return true;
+        }
+
+        if (0 == this.size || 0 <= this.comparator.compare(item, this.heap[0])) {
+            return false;
+        }
+
+        // The greatest kept item is replaced.
+        this.heap[0] = item;
+        this.siftDown(0);
+        return true;
+    }
+
+    /**
+     * Returns the kept items, sorted.
+     * <p>
+     * <pre>
+     * Time complexity: the one of the sorting algorithm on the kept items.
+     * </pre>
+     * <p>
+     *
+     * @param sortingAlgorithm Algorithm used to sort the items.
+     * @param arrayBuilder     Function that given an int returns a T[] of the given dimension.
+     * @return The array of the kept items, sorted.
+     */
+    public T[] toSortedArray(final ISort sortingAlgorithm, final IntFunction<T[]> arrayBuilder) {
+        final var array = arrayBuilder.apply(this.size);
+        System.arraycopy(this.heap, 0, array, 0, this.size);
+        sortingAlgorithm.sort(array, this.comparator);
+        return array;
+    }
+
+    public int capacity() {
+        return this.heap.length;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return 0 == this.size;
+    }
+}
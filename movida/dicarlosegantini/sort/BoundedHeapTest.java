@@ -0,0 +1,72 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 - Davide Di Carlo, Andrea Segantini
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package movida.dicarlosegantini.sort;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedHeapTest {
+    @Test
+    void offer() {
+        final var sut = new BoundedHeap<Integer>(3, Integer::compareTo);
+        assertTrue(sut.isEmpty());
+
+        assertTrue(sut.offer(5));
+        assertTrue(sut.offer(7));
+        assertTrue(sut.offer(6));
+        assertEquals(3, sut.size());
+
+        assertFalse(sut.offer(8));
+        assertFalse(sut.offer(7));
+        assertTrue(sut.offer(1));
+        assertEquals(3, sut.size());
+        assertEquals(3, sut.capacity());
+
+        assertArrayEquals(new Integer[]{1, 5, 6}, sut.toSortedArray(QuickSort.getInstance(), Integer[]::new));
+    }
+
+    @Test
+    void offerZeroCapacity() {
+        final var sut = new BoundedHeap<Integer>(0, Integer::compareTo);
+        assertFalse(sut.offer(1));
+        assertEquals(0, sut.toSortedArray(QuickSort.getInstance(), Integer[]::new).length);
+    }
+
+    @Test
+    void offerMany() {
+        final var array = PartialSortTest.randomArray(10000, 1000);
+        final var sut = new BoundedHeap<Integer>(100, Integer::compareTo);
+        Arrays.stream(array).forEach(sut::offer);
+
+        Arrays.sort(array);
+        assertArrayEquals(Arrays.copyOf(array, 100), sut.toSortedArray(HeapSort.getInstance(), Integer[]::new));
+    }
+}
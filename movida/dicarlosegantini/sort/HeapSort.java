@@ -0,0 +1,115 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 - Davide Di Carlo, Andrea Segantini
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package movida.dicarlosegantini.sort;
+
+import java.util.Comparator;
+
+/**
+ * Sorting algorithm: Heapsort.
+ * In place, the range is turned into a max-heap whose root is repeatedly moved at the end of the range.
+ * Not stable.
+ * <p>
+ * <pre>
+ * Time complexity: O(n*log(n)) also in the worst case.
+ * Space complexity: O(1)
+ * </pre>
+ * <p>
+ */
+public final class HeapSort implements ISort {
+    private HeapSort() {}
+
+    public static HeapSort getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /*
+     * Moves down the item at index, of the heap stored in array[from, from + length), until both its children are
+     * not greater than it.
+     * Instead of swapping at each level, the children are moved up and the item is written only once.
+     */
+    private static <T> void siftDown(T[] array, final int from, final int length, int index,
+                                     final Comparator<T> comparator) {
+        final var item = array[from + index];
+        final var half = length >>> 1;
+
+        // Only the nodes before half have at least one child.
+        while (index < half) {
+            var child = 2 * index + 1;
+            final var right = child + 1;
+
+            if (right < length && 0 > comparator.compare(array[from + child], array[from + right])) {
+                child = right;
+            }
+
+            if (0 <= comparator.compare(item, array[from + child])) {
+                break;
+            }
+
+            array[from + index] = array[from + child];
+            index = child;
+        }
+
+        array[from + index] = item;
+    }
+
+    /**
+     * Sorts the range without allocating, used also by the other algorithms as a worst case fallback.
+     * <p>
+     * <pre>
+     * Time complexity: O(n*log(n))
+     * </pre>
+     * <p>
+     */
+    static <T> void heapSort(T[] array, final int from, final int to, final Comparator<T> comparator) {
+        final var length = to - from;
+
+        // Floyd's construction, in O(n).
+        for (int i = (length >>> 1) - 1; 0 <= i; --i) {
+            siftDown(array, from, length, i, comparator);
+        }
+
+        for (int last = length - 1; 0 < last; --last) {
+            final var max = array[from];
+            array[from] = array[from + last];
+            array[from + last] = max;
+            siftDown(array, from, last, 0, comparator);
+        }
+    }
+
+    @Override
+    public <T> void sort(T[] array, final int from, final int to, final Comparator<T> comparator) {
+        assert 0 <= from;
+        assert from <= to;
+        assert to <= array.length;
+        heapSort(array, from, to, comparator);
+    }
+
+    private static final class Holder {
+        private static final HeapSort INSTANCE = new HeapSort();
+    }
+}
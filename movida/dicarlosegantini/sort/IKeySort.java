@@ -0,0 +1,52 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 - Davide Di Carlo, Andrea Segantini
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package movida.dicarlosegantini.sort;
+
+import java.util.Comparator;
+import java.util.function.ToIntFunction;
+
+/**
+ * Interface made to abstract sorting algorithms which, besides comparators, can order the items by an int key.
+ */
+public interface IKeySort extends ISort {
+    default <T> void sortByKey(T[] array, final int length, final ToIntFunction<T> key, final Comparator<T> tieBreak) {
+        this.sortByKey(array, 0, length, key, tieBreak);
+    }
+
+    /**
+     * Sorts the items by ascending key, the items with the same key are ordered by the tie break comparator.
+     *
+     * @param array    array to be sorted
+     * @param from     start index (inclusive)
+     * @param to       end index (exclusive)
+     * @param key      function used to extract the key of the array items, called once per item
+     * @param tieBreak function used to compare array items with equal keys
+     */
+    <T> void sortByKey(T[] array, final int from, final int to, final ToIntFunction<T> key,
+                       final Comparator<T> tieBreak);
+}
@@ -31,6 +31,8 @@ import java.util.Comparator;
 
 /**
  * Interface made to abstract sorting algorithms.
+ * The implementations are stateless singletons, created on first use by their getInstance: the same instance can
+ * sort from many threads at once.
  */
 public interface ISort {
     default <T extends Comparable<T>> void sort(T[] array) {
@@ -27,7 +27,19 @@
 
 package movida.dicarlosegantini.sort;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ISortTest {
     @org.junit.jupiter.api.Test
@@ -50,6 +62,130 @@ class ISortTest {
         this.testTwoElements(sut);
         this.testManyElements(sut);
         this.testDuplicateElements(sut);
+        this.testLargeArray(sut);
+        this.testPatterns(sut);
+    }
+
+    @org.junit.jupiter.api.Test
+    void testMergeSort() {
+        final var sut = MergeSort.getInstance();
+
+        this.testNoElements(sut);
+        this.testOneElement(sut);
+        this.testTwoElements(sut);
+        this.testManyElements(sut);
+        this.testDuplicateElements(sut);
+        this.testStability(sut);
+        this.testLargeArray(sut);
+    }
+
+    @org.junit.jupiter.api.Test
+    void testMergeSortInPool() {
+        final var pool = new ForkJoinPool(2);
+        final var array = new Random(42).ints(1 << 16).boxed().toArray(Integer[]::new);
+        final var expected = array.clone();
+        Arrays.sort(expected);
+
+        // A sort running in a pool forks its halves in the same pool, so every comparison happens in its workers.
+        final var outside = new AtomicInteger(0);
+        pool.invoke(ForkJoinTask.adapt(() -> MergeSort.getInstance().sort(array, (x, y) -> {
+            if (pool != ForkJoinTask.getPool()) {
+                outside.incrementAndGet();
+            }
+            return x.compareTo(y);
+        })));
+        pool.shutdown();
+
+        assertArrayEquals(expected, array);
+        assertEquals(0, outside.get());
+    }
+
+    @org.junit.jupiter.api.Test
+    void testHeapSort() {
+        final var sut = HeapSort.getInstance();
+
+        this.testNoElements(sut);
+        this.testOneElement(sut);
+        this.testTwoElements(sut);
+        this.testManyElements(sut);
+        this.testDuplicateElements(sut);
+        this.testLargeArray(sut);
+    }
+
+    @org.junit.jupiter.api.Test
+    void testTimSort() {
+        final var sut = TimSort.getInstance();
+
+        this.testNoElements(sut);
+        this.testOneElement(sut);
+        this.testTwoElements(sut);
+        this.testManyElements(sut);
+        this.testDuplicateElements(sut);
+        this.testStability(sut);
+        this.testLargeArray(sut);
+        this.testPatterns(sut);
+    }
+
+    @org.junit.jupiter.api.Test
+    void testRadixSort() {
+        final var sut = RadixSort.getInstance();
+
+        this.testNoElements(sut);
+        this.testOneElement(sut);
+        this.testTwoElements(sut);
+        this.testManyElements(sut);
+        this.testDuplicateElements(sut);
+        this.testStability(sut);
+        this.testLargeArray(sut);
+        this.testSortByKey(sut);
+    }
+
+    @org.junit.jupiter.api.Test
+    void testInsertionSort() {
+        for (final var sut : new ISort[]{InsertionSort.getInstance(), InsertionSort.getBinaryInstance()}) {
+            this.testNoElements(sut);
+            this.testOneElement(sut);
+            this.testTwoElements(sut);
+            this.testManyElements(sut);
+            this.testDuplicateElements(sut);
+            this.testStability(sut);
+        }
+    }
+
+    @org.junit.jupiter.api.Test
+    void testConcurrentSorts() throws Exception {
+        final var sorts = new ISort[]{
+                QuickSort.getInstance(), MergeSort.getInstance(), HeapSort.getInstance(), TimSort.getInstance(),
+                RadixSort.getInstance(), InsertionSort.getBinaryInstance(), SelectionSort.getInstance()
+        };
+        final var pool = Executors.newFixedThreadPool(8);
+
+        try {
+            final var tasks = new ArrayList<Callable<Boolean>>();
+            for (int i = 0; 32 > i; ++i) {
+                final var seed = i;
+                final var sut = sorts[i % sorts.length];
+
+                tasks.add(() -> {
+                    final var random = new Random(seed);
+                    final var arr = new Integer[sut instanceof SelectionSort ? 500 : 20000];
+                    for (int j = 0; arr.length > j; ++j) {
+                        arr[j] = random.nextInt(1000);
+                    }
+
+                    final var expected = arr.clone();
+                    Arrays.sort(expected);
+                    sut.sort(arr);
+                    return Arrays.equals(expected, arr);
+                });
+            }
+
+            for (final var result : pool.invokeAll(tasks)) {
+                assertTrue(result.get());
+            }
+        } finally {
+            pool.shutdown();
+        }
     }
 
     void testNoElements(final ISort sut) {
@@ -113,4 +249,95 @@ class ISortTest {
         assertEquals(3, arr[6]);
         assertEquals(4, arr[7]);
     }
+
+    void testStability(final ISort sut) {
+        // items are sorted only by their tens, the units keep track of the original order
+        final Integer[] arr = new Integer[1000];
+        for (int i = 0; arr.length > i; ++i) {
+            arr[i] = ((i * 7) % 10) * 10 + i / 100;
+        }
+
+        sut.sort(arr, Comparator.comparing(x -> x / 10));
+        for (int i = 1; arr.length > i; ++i) {
+            assertTrue(arr[i - 1] / 10 < arr[i] / 10 || arr[i - 1] <= arr[i]);
+        }
+    }
+
+    void testLargeArray(final ISort sut) {
+        final var random = new Random(42);
+        final Integer[] arr = new Integer[100000];
+        for (int i = 0; arr.length > i; ++i) {
+            arr[i] = random.nextInt(1000);
+        }
+
+        final var expected = arr.clone();
+        Arrays.sort(expected);
+
+        // sorting a sub range must not touch the items outside of it
+        final var from = 10;
+        final var to = arr.length - 10;
+        final var partiallySorted = arr.clone();
+        Arrays.sort(partiallySorted, from, to);
+
+        final var sub = arr.clone();
+        sut.sort(sub, from, to);
+        assertArrayEquals(partiallySorted, sub);
+
+        sut.sort(arr);
+        assertArrayEquals(expected, arr);
+
+        // already sorted and reversed inputs
+        sut.sort(arr);
+        assertArrayEquals(expected, arr);
+
+        sut.sort(arr, Comparator.reverseOrder());
+        for (int i = 1; arr.length > i; ++i) {
+            assertTrue(arr[i - 1] >= arr[i]);
+        }
+    }
+
+    void testPatterns(final ISort sut) {
+        final var length = 50000;
+        final Integer[][] patterns = new Integer[4][length];
+
+        for (int i = 0; length > i; ++i) {
+            // all equal
+            patterns[0][i] = 7;
+            // organ pipe
+            patterns[1][i] = i < length / 2 ? i : length - i;
+            // sawtooth
+            patterns[2][i] = i % 64;
+            // sorted with a few swaps
+            patterns[3][i] = 0 == i % 1000 ? length - i : i;
+        }
+
+        for (final var arr : patterns) {
+            final var expected = arr.clone();
+            Arrays.sort(expected);
+
+            sut.sort(arr);
+            assertArrayEquals(expected, arr);
+        }
+    }
+
+    void testSortByKey(final IKeySort sut) {
+        final var random = new Random(42);
+        final Integer[] arr = new Integer[100000];
+        for (int i = 0; arr.length > i; ++i) {
+            arr[i] = random.nextInt();
+        }
+
+        // keys spanning the whole int range, many of them equal and broken by the tie break
+        final var expected = arr.clone();
+        Arrays.sort(expected, 5, expected.length - 5,
+                Comparator.<Integer>comparingInt(x -> x / 1000).thenComparing(Comparator.reverseOrder()));
+
+        sut.sortByKey(arr, 5, arr.length - 5, x -> x / 1000, Comparator.reverseOrder());
+        assertArrayEquals(expected, arr);
+
+        final Integer[] extremes = {0, Integer.MAX_VALUE, -1, Integer.MIN_VALUE, 1, Integer.MIN_VALUE};
+        sut.sortByKey(extremes, extremes.length, x -> x, Comparator.naturalOrder());
+        assertArrayEquals(new Integer[]{Integer.MIN_VALUE, Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE}, extremes);
+    }
+
 }
@@ -0,0 +1,116 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 - Davide Di Carlo, Andrea Segantini
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package movida.dicarlosegantini.sort;
+
+import movida.dicarlosegantini.array.BinarySearch;
+
+import java.util.Comparator;
+
+/**
+ * Sorting algorithm: Insertion sort.
+ * Stable, in place and without any overhead, the best choice on small or nearly sorted ranges; the other algorithms
+ * use it to finish their small ranges.
+ * The binary variant finds the position of each item with a binary search and shifts the greater items with a single
+ * System.arraycopy, so it needs only O(n*log(n)) comparisons.
+ * <p>
+ * <pre>
+ * Time complexity: O(n^2) in the worst case, O(n) on sorted ranges.
+ * Binary variant: O(n*log(n)) comparisons and O(n^2) moves in the worst case.
+ * </pre>
+ * <p>
+ */
+public final class InsertionSort implements ISort {
+    private final boolean binary;
+
+    private InsertionSort(final boolean binary) {
+        this.binary = binary;
+    }
+
+    public static InsertionSort getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    public static InsertionSort getBinaryInstance() {
+        return Holder.BINARY_INSTANCE;
+    }
+
+    static <T> void insertionSort(T[] array, final int from, final int to, final Comparator<T> comparator) {
+        for (int i = from + 1; i < to; ++i) {
+            final var item = array[i];
+            var j = i - 1;
+
+            while (j >= from && 0 < comparator.compare(array[j], item)) {
+                array[j + 1] = array[j];
+                j -= 1;
+            }
+
+            array[j + 1] = item;
+        }
+    }
+
+    /*
+     * Sorts array[from, to) knowing that array[from, start) is already sorted.
+     */
+    static <T> void binaryInsertionSort(T[] array, final int from, final int to, final int start,
+                                        final Comparator<T> comparator) {
+        // Never reporting equal items, the search always returns the position after the items equal to the searched
+        // one, which keeps the sort stable.
+        final Comparator<T> upperBound = (x, y) -> 0 < comparator.compare(x, y) ? 1 : -1;
+
+        for (int i = Math.max(start, from + 1); i < to; ++i) {
+            final var item = array[i];
+
+            // The item is usually already in place when the range is nearly sorted.
+            if (0 <= comparator.compare(item, array[i - 1])) {
+                continue;
+            }
+
+            final var index = -(BinarySearch.search(array, from, i, item, upperBound) + 1);
+            System.arraycopy(array, index, array, index + 1, i - index);
+            array[index] = item;
+        }
+    }
+
+    @Override
+    public <T> void sort(T[] array, final int from, final int to, final Comparator<T> comparator) {
+        assert 0 <= from;
+        assert from <= to;
+        assert to <= array.length;
+
+        if (this.binary) {
+            binaryInsertionSort(array, from, to, from + 1, comparator);
+        } else {
+            insertionSort(array, from, to, comparator);
+        }
+    }
+
+    private static final class Holder {
+        private static final InsertionSort INSTANCE = new InsertionSort(false);
+        private static final InsertionSort BINARY_INSTANCE = new InsertionSort(true);
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 - Davide Di Carlo, Andrea Segantini
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package movida.dicarlosegantini.sort;
+
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Sorting algorithm: Merge sort.
+ * Stable, the two halves of large ranges are sorted in parallel, in the ForkJoinPool running the sort if any,
+ * otherwise in the common one.
+ * <p>
+ * <pre>
+ * Time complexity: O(n*log(n))
+ * Space complexity: O(n) -> a single buffer, shared by all the merges, is allocated for each sort.
+ * </pre>
+ * <p>
+ */
+public final class MergeSort implements ISort {
+    // Ranges shorter than this are sorted with insertion sort.
+    private static final int INSERTION_THRESHOLD = 32;
+    // Ranges shorter than this are not split between threads.
+    private static final int PARALLEL_THRESHOLD = 1 << 13;
+
+    private MergeSort() {}
+
+    public static MergeSort getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /*
+     * Merges the sorted ranges [from, middle) and [middle, to), copying the left range in the buffer.
+     * The buffer covers the whole range being sorted, which starts at base, so concurrent merges of disjoint
+     * ranges use disjoint parts of the buffer.
+     * On equal items the one of the left range is taken first, so the sort is stable.
+     */
+    private static <T> void merge(T[] array, final Object[] buffer, final int base, final int from, final int middle,
+                                  final int to, final Comparator<T> comparator) {
+        // The ranges are already in order, there's nothing to merge.
+        if (0 >= comparator.compare(array[middle - 1], array[middle])) {
+            return;
+        }
+
+        final var leftEnd = middle - base;
+        System.arraycopy(array, from, buffer, from - base, middle - from);
+
+        var left = from - base;
+        var right = middle;
+        var index = from;
+
+        while (left < leftEnd && right < to) {
+            @SuppressWarnings("unchecked") final var leftItem = (T) buffer[left];
+
+            if (0 >= comparator.compare(leftItem, array[right])) {
+                array[index++] = leftItem;
+                left += 1;
+            } else {
+                array[index++] = array[right++];
+            }
+        }
+
+        // The remaining items of the right range are already in place.
+        System.arraycopy(buffer, left, array, index, leftEnd - left);
+    }
+
+    private static <T> void recurse(T[] array, final Object[] buffer, final int base, final int from, final int to,
+                                    final Comparator<T> comparator) {
+        if (INSERTION_THRESHOLD > to - from) {
+            InsertionSort.binaryInsertionSort(array, from, to, from + 1, comparator);
+            return;
+        }
+
+        final var middle = (from + to) >>> 1;
+        recurse(array, buffer, base, from, middle, comparator);
+        recurse(array, buffer, base, middle, to, comparator);
+        merge(array, buffer, base, from, middle, to, comparator);
+    }
+
+    @Override
+    public <T> void sort(T[] array, final int from, final int to, final Comparator<T> comparator) {
+        assert 0 <= from;
+        assert from <= to;
+        assert to <= array.length;
+
+        if (INSERTION_THRESHOLD > to - from) {
+            InsertionSort.binaryInsertionSort(array, from, to, from + 1, comparator);
+            return;
+        }
+
+        final var buffer = new Object[to - from];
+
+        if (PARALLEL_THRESHOLD > to - from) {
+            recurse(array, buffer, from, from, to, comparator);
+        } else {
+            // Inside a pool (as the sorts of MovidaCore.finalizeLoad) the halves are forked in that same pool,
+            // instead of blocking one of its workers on the common pool.
+            final var task = new Task<>(array, buffer, from, from, to, comparator);
+            if (ForkJoinTask.inForkJoinPool()) {
+                task.invoke();
+            } else {
+                ForkJoinPool.commonPool().invoke(task);
+            }
+        }
+    }
+
+    /*
+     * Sorts a range forking the sort of its two halves, the tasks write into disjoint ranges of the buffer.
+     */
+    @SuppressWarnings("serial")
+    private static final class Task<T> extends RecursiveAction {
+        private final T[] array;
+        private final Object[] buffer;
+        private final int base;
+        private final int from;
+        private final int to;
+        private final Comparator<T> comparator;
+
+        Task(final T[] array, final Object[] buffer, final int base, final int from, final int to,
+             final Comparator<T> comparator) {
+            this.array = array;
+            this.buffer = buffer;
+            this.base = base;
+            this.from = from;
+            this.to = to;
+            this.comparator = comparator;
+        }
+
+        @Override
+        protected void compute() {
+            if (PARALLEL_THRESHOLD > this.to - this.from) {
+                recurse(this.array, this.buffer, this.base, this.from, this.to, this.comparator);
+                return;
+            }
+
+            final var middle = (this.from + this.to) >>> 1;
+            invokeAll(
+                    new Task<>(this.array, this.buffer, this.base, this.from, middle, this.comparator),
+                    new Task<>(this.array, this.buffer, this.base, middle, this.to, this.comparator)
+            );
+            merge(this.array, this.buffer, this.base, this.from, middle, this.to, this.comparator);
+        }
+    }
+
+    private static final class Holder {
+        private static final MergeSort INSTANCE = new MergeSort();
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 - Davide Di Carlo, Andrea Segantini
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package movida.dicarlosegantini.sort;
+
+import java.util.Comparator;
+
+/**
+ * Partial sorting: finds the k smallest items of a range, without sorting the rest of it.
+ * Selection is implemented as introselect: quicksort partitioning that follows only the side containing the k-th
+ * item, falling back to heapsort when the partitions get too unbalanced.
+ * <p>
+ * <pre>
+ * Time complexity:
+ * select -> O(n)
+ * sortTop -> O(n + k*log(k))
+ * </pre>
+ * <p>
+ */
+public final class PartialSort {
+    // Ranges shorter than this are sorted with insertion sort.
+    private static final int INSERTION_THRESHOLD = 16;
+
+    private PartialSort() {}
+
+    /**
+     * Moves the k smallest items of the range in [from, from + k), in no particular order.
+     *
+     * @param array      array instance
+     * @param from       start index (inclusive)
+     * @param to         end index (exclusive)
+     * @param k          number of items to select, in range [0, to - from]
+     * @param comparator function used to compare array items
+     */
+    public static <T> void select(T[] array, int from, int to, final int k, final Comparator<T> comparator) {
+        assert 0 <= from;
+        assert from <= to;
+        assert to <= array.length;
+        assert 0 <= k && k <= to - from;
+
+        // The range must be split between target - 1 and target.
+        final var target = from + k;
+
+        if (from == target || to == target) {
+            return;
+        }
+
+        // 2 * floor(log2(length))
+        var depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(to - from));
+
+        while (INSERTION_THRESHOLD <= to - from) {
+            if (0 == depthLimit) {
+                HeapSort.heapSort(array, from, to, comparator);
+                return;
+            }
+
+            depthLimit -= 1;
+
+            // [from, pivotIndex] and [pivotIndex + 1, to) are both not empty.
+            final var pivotIndex = QuickSort.partition(array, from, to - 1, comparator);
+
+            if (target == pivotIndex + 1) {
+                return;
+            } else if (target <= pivotIndex) {
+                to = pivotIndex + 1;
+            } else {
+                from = pivotIndex + 1;
+            }
+        }
+
+        InsertionSort.binaryInsertionSort(array, from, to, from + 1, comparator);
+    }
+
+    /**
+     * Moves the k smallest items of the range in [from, from + k), sorted with the given algorithm.
+     *
+     * @param sortingAlgorithm algorithm used to sort the k smallest items
+     * @param array            array instance
+     * @param from             start index (inclusive)
+     * @param to               end index (exclusive)
+     * @param k                number of items to select, in range [0, to - from]
+     * @param comparator       function used to compare array items
+     */
+    public static <T> void sortTop(final ISort sortingAlgorithm, T[] array, final int from, final int to, final int k,
+                                   final Comparator<T> comparator) {
+        select(array, from, to, k, comparator);
+        sortingAlgorithm.sort(array, from, from + k, comparator);
+    }
+}
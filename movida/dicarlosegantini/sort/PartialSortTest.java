@@ -0,0 +1,84 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 - Davide Di Carlo, Andrea Segantini
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package movida.dicarlosegantini.sort;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PartialSortTest {
+    static Integer[] randomArray(final int length, final int bound) {
+        final var random = new Random(42);
+        final var array = new Integer[length];
+        for (int i = 0; length > i; ++i) {
+            array[i] = random.nextInt(bound);
+        }
+
+        return array;
+    }
+
+    @Test
+    void select() {
+        for (final var bound : new int[]{1, 10, 100000}) {
+            final var array = randomArray(10000, bound);
+
+            for (final var k : new int[]{0, 1, 15, 16, 500, 9999, 10000}) {
+                final var selected = array.clone();
+                PartialSort.select(selected, 0, selected.length, k, Integer::compareTo);
+
+                // the items before k are not greater than the ones after it
+                final var maxBefore = Arrays.stream(selected, 0, k).max(Integer::compareTo).orElse(Integer.MIN_VALUE);
+                final var minAfter = Arrays.stream(selected, k, selected.length).min(Integer::compareTo)
+                        .orElse(Integer.MAX_VALUE);
+                assertTrue(maxBefore <= minAfter);
+
+                // the items are only moved
+                final var sortedSelected = selected.clone();
+                final var sortedArray = array.clone();
+                Arrays.sort(sortedSelected);
+                Arrays.sort(sortedArray);
+                assertArrayEquals(sortedArray, sortedSelected);
+            }
+        }
+    }
+
+    @Test
+    void sortTop() {
+        final var array = randomArray(10000, 100000);
+        final var expected = array.clone();
+        Arrays.sort(expected, 10, expected.length, Comparator.reverseOrder());
+
+        PartialSort.sortTop(QuickSort.getInstance(), array, 10, array.length, 100, Comparator.reverseOrder());
+        assertArrayEquals(Arrays.copyOfRange(expected, 0, 110), Arrays.copyOfRange(array, 0, 110));
+    }
+}
@@ -28,30 +28,28 @@
 package movida.dicarlosegantini.sort;
 
 import java.util.Comparator;
-import java.util.Random;
 
 /**
  * Sorting algorithm: Quicksort.
- * Implemented with randomized pivot.
+ * Implemented as introsort: the pivot is the median of three items (or Tukey's ninther on large ranges), small ranges
+ * are finished with binary insertion sort and, when the recursion gets too deep, the range is sorted with heapsort.
+ * Only the smaller partition is sorted recursively, so the stack depth is O(log(n)).
  * <p>
  * <pre>
- * Time complexity: O(n*log(n)) due to randomization of the pivot.
- * Otherwise, without randomization: O(n^2) in the worst case.
+ * Time complexity: O(n*log(n)) also in the worst case, thanks to the heapsort fallback.
  * </pre>
  * <p>
  */
 public final class QuickSort implements ISort {
-    private static final Random rand = new Random();
-    private static QuickSort instance = null;
+    // Ranges shorter than this are sorted with insertion sort.
+    private static final int INSERTION_THRESHOLD = 24;
+    // Ranges at least this long use the ninther as pivot.
+    private static final int NINTHER_THRESHOLD = 128;
 
     private QuickSort() {}
 
     public static QuickSort getInstance() {
-        if (null == instance) {
-            instance = new QuickSort();
-        }
-
-        return instance;
+        return Holder.INSTANCE;
     }
 
     private static <T> void swap(T[] array, final int firstIndex, final int lastIndex) {
@@ -60,12 +58,52 @@ public final class QuickSort implements ISort {
         array[lastIndex] = tmp;
     }
 
-    private static <T> int partition(T[] array, final int firstIndex, final int lastIndex,
-                                     final Comparator<T> comparator) {
-        // Pivot will always be in the first position.
+    /*
+     * Sorts the items at indexes a, b and c, so that the median ends up in b.
+     */
+    private static <T> void sort3(T[] array, final int a, final int b, final int c, final Comparator<T> comparator) {
+        if (0 < comparator.compare(array[a], array[b])) {
+            swap(array, a, b);
+        }
+
+        if (0 < comparator.compare(array[b], array[c])) {
+            swap(array, b, c);
+
+            if (0 < comparator.compare(array[a], array[b])) {
+                swap(array, a, b);
+            }
+        }
+    }
 
-        // swap firstIndex with a random pivot to optimize the quicksort
-        swap(array, firstIndex, rand.nextInt(lastIndex - firstIndex) + firstIndex);
+    /*
+     * Moves the chosen pivot in array[firstIndex].
+     */
+    private static <T> void choosePivot(T[] array, final int firstIndex, final int lastIndex,
+                                        final Comparator<T> comparator) {
+        final var length = lastIndex - firstIndex + 1;
+        final var middle = firstIndex + (length >>> 1);
+
+        if (NINTHER_THRESHOLD <= length) {
+            // Median of the medians of three groups of three items.
+            final var step = length >>> 3;
+            sort3(array, firstIndex, firstIndex + step, firstIndex + 2 * step, comparator);
+            sort3(array, middle - step, middle, middle + step, comparator);
+            sort3(array, lastIndex - 2 * step, lastIndex - step, lastIndex, comparator);
+            sort3(array, firstIndex + step, middle, lastIndex - step, comparator);
+        } else {
+            sort3(array, firstIndex, middle, lastIndex, comparator);
+        }
+
+        swap(array, firstIndex, middle);
+    }
+
+    /*
+     * Partitions array[firstIndex, lastIndex] and returns the index p, in [firstIndex, lastIndex), such that the
+     * items in [firstIndex, p] are not greater than the ones in [p + 1, lastIndex].
+     */
+    static <T> int partition(T[] array, final int firstIndex, final int lastIndex, final Comparator<T> comparator) {
+        // Pivot will always be in the first position.
+        choosePivot(array, firstIndex, lastIndex, comparator);
 
         final var pivotValue = array[firstIndex];
         // because of decrement in the while
@@ -91,13 +129,32 @@ public final class QuickSort implements ISort {
         }
     }
 
-    private static <T> void recurse(T[] array, final int firstIndex, final int lastIndex,
-                                    final Comparator<T> comparator) {
-        if (firstIndex < lastIndex) {
-            final var pivotIndex = partition(array, firstIndex, lastIndex, comparator);
-            recurse(array, firstIndex, pivotIndex, comparator);
-            recurse(array, pivotIndex + 1, lastIndex, comparator);
+    /*
+     * Sorts array[from, to), depthLimit is the number of partitions allowed before falling back to heapsort.
+     */
+    private static <T> void introSort(T[] array, int from, int to, int depthLimit, final Comparator<T> comparator) {
+        while (INSERTION_THRESHOLD <= to - from) {
+            if (0 == depthLimit) {
+                HeapSort.heapSort(array, from, to, comparator);
+                return;
+            }
+
+            depthLimit -= 1;
+
+            // [from, pivotIndex] and [pivotIndex + 1, to) are both not empty.
+            final var pivotIndex = partition(array, from, to - 1, comparator);
+
+            // Recursion on the smaller side only, the loop continues on the bigger one.
+            if (pivotIndex + 1 - from < to - pivotIndex - 1) {
+                introSort(array, from, pivotIndex + 1, depthLimit, comparator);
+                from = pivotIndex + 1;
+            } else {
+                introSort(array, pivotIndex + 1, to, depthLimit, comparator);
+                to = pivotIndex + 1;
+            }
         }
+
+        InsertionSort.binaryInsertionSort(array, from, to, from + 1, comparator);
     }
 
     @Override
@@ -105,6 +162,14 @@ public final class QuickSort implements ISort {
         assert 0 <= from;
         assert from <= to;
         assert to <= array.length;
-        recurse(array, from, to - 1, comparator);
+
+        final var length = to - from;
+        // 2 * floor(log2(length))
+        final var depthLimit = 0 == length ? 0 : 2 * (31 - Integer.numberOfLeadingZeros(length));
+        introSort(array, from, to, depthLimit, comparator);
+    }
+
+    private static final class Holder {
+        private static final QuickSort INSTANCE = new QuickSort();
     }
 }
@@ -0,0 +1,257 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 - Davide Di Carlo, Andrea Segantini
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package movida.dicarlosegantini.sort;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.ToIntFunction;
+
+/**
+ * Sorting algorithm: LSD radix sort.
+ * The keys are extracted once in an int array and sorted one byte at a time, from the least significant one, with
+ * counting sort; only the bytes needed by the range of the keys are visited. Finally, each run of items with equal
+ * keys is sorted using the tie break comparator.
+ * Sorting with a comparator only has no key to work on, so it's delegated to Timsort.
+ * <p>
+ * <pre>
+ * Time complexity: O(n*b) where b is the number of bytes of (max key - min key), plus the sort of the equal keys.
+ * Space complexity: O(n)
+ * </pre>
+ * <p>
+ */
+public final class RadixSort implements IKeySort {
+    private static final int RADIX_BITS = 8;
+    private static final int RADIX = 1 << RADIX_BITS;
+    private static final int MASK = RADIX - 1;
+
+    private RadixSort() {}
+
+    public static RadixSort getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    @Override
+    public <T> void sort(T[] array, final int from, final int to, final Comparator<T> comparator) {
+        TimSort.getInstance().sort(array, from, to, comparator);
+    }
+
+    @Override
+    public <T> void sortByKey(T[] array, final int from, final int to, final ToIntFunction<T> key,
+                              final Comparator<T> tieBreak) {
+        assert 0 <= from;
+        assert from <= to;
+        assert to <= array.length;
+
+        final var length = to - from;
+
+        if (2 > length) {
+            return;
+        }
+
+        var keys = new int[length];
+        var min = Integer.MAX_VALUE;
+        var max = Integer.MIN_VALUE;
+
+        for (int i = 0; length > i; ++i) {
+            final var k = key.applyAsInt(array[from + i]);
+            keys[i] = k;
+            min = Math.min(min, k);
+            max = Math.max(max, k);
+        }
+
+        // Keys are rebased on min, so they are unsigned and as short as possible.
+        final var range = (long) max - min;
+        for (int i = 0; length > i; ++i) {
+            keys[i] -= min;
+        }
+
+        // The items are moved between two buffers, the array is written only at the end.
+        var items = Arrays.copyOfRange(array, from, to, Object[].class);
+        var otherKeys = new int[length];
+        var otherItems = new Object[length];
+        final var counts = new int[RADIX];
+
+        for (int shift = 0; Integer.SIZE > shift && 0 != (range >>> shift); shift += RADIX_BITS) {
+            Arrays.fill(counts, 0);
+            for (int i = 0; length > i; ++i) {
+                counts[(keys[i] >>> shift) & MASK] += 1;
+            }
+
+            // counts become the first position of each digit
+            var position = 0;
+            for (int digit = 0; RADIX > digit; ++digit) {
+                final var count = counts[digit];
+                counts[digit] = position;
+                position += count;
+            }
+
+            // Going forward keeps the sort stable, so the order of the previous bytes is kept.
+            for (int i = 0; length > i; ++i) {
+                final var index = counts[(keys[i] >>> shift) & MASK]++;
+                otherKeys[index] = keys[i];
+                otherItems[index] = items[i];
+            }
+
+            final var tmpKeys = keys;
+            keys = otherKeys;
+            otherKeys = tmpKeys;
+
+            final var tmpItems = items;
+            items = otherItems;
+            otherItems = tmpItems;
+        }
+
+        System.arraycopy(items, 0, array, from, length);
+
+        // Ties are sorted inside each run of equal keys only.
+        var runStart = 0;
+        for (int i = 1; length >= i; ++i) {
+            if (length == i || keys[i] != keys[runStart]) {
+                if (1 < i - runStart) {
+                    TimSort.getInstance().sort(array, from + runStart, from + i, tieBreak);
+                }
+
+                runStart = i;
+            }
+        }
+    }
+
+    /**
+     * Sorts a range of int values in ascending order.
+     * <p>
+     * <pre>
+     * Time complexity: O(n)
+     * </pre>
+     * <p>
+     *
+     * @param array array to be sorted
+     * @param from  start index (inclusive)
+     * @param to    end index (exclusive)
+     */
+    public static void sort(int[] array, final int from, final int to) {
+        assert 0 <= from;
+        assert from <= to;
+        assert to <= array.length;
+
+        final var length = to - from;
+        var values = Arrays.copyOfRange(array, from, to);
+        var otherValues = new int[length];
+        final var counts = new int[RADIX];
+
+        for (int shift = 0; Integer.SIZE > shift; shift += RADIX_BITS) {
+            // Flipping the sign bit, negative values come before the positive ones.
+            Arrays.fill(counts, 0);
+            for (int i = 0; length > i; ++i) {
+                counts[((values[i] ^ Integer.MIN_VALUE) >>> shift) & MASK] += 1;
+            }
+
+            if (!toPositions(counts, length)) {
+                continue;
+            }
+
+            for (int i = 0; length > i; ++i) {
+                otherValues[counts[((values[i] ^ Integer.MIN_VALUE) >>> shift) & MASK]++] = values[i];
+            }
+
+            final var tmp = values;
+            values = otherValues;
+            otherValues = tmp;
+        }
+
+        System.arraycopy(values, 0, array, from, length);
+    }
+
+    /**
+     * Sorts a range of long values in ascending order.
+     * <p>
+     * <pre>
+     * Time complexity: O(n)
+     * </pre>
+     * <p>
+     *
+     * @param array array to be sorted
+     * @param from  start index (inclusive)
+     * @param to    end index (exclusive)
+     */
+    public static void sort(long[] array, final int from, final int to) {
+        assert 0 <= from;
+        assert from <= to;
+        assert to <= array.length;
+
+        final var length = to - from;
+        var values = Arrays.copyOfRange(array, from, to);
+        var otherValues = new long[length];
+        final var counts = new int[RADIX];
+
+        for (int shift = 0; Long.SIZE > shift; shift += RADIX_BITS) {
+            // Flipping the sign bit, negative values come before the positive ones.
+            Arrays.fill(counts, 0);
+            for (int i = 0; length > i; ++i) {
+                counts[(int) ((values[i] ^ Long.MIN_VALUE) >>> shift) & MASK] += 1;
+            }
+
+            if (!toPositions(counts, length)) {
+                continue;
+            }
+
+            for (int i = 0; length > i; ++i) {
+                otherValues[counts[(int) ((values[i] ^ Long.MIN_VALUE) >>> shift) & MASK]++] = values[i];
+            }
+
+            final var tmp = values;
+            values = otherValues;
+            otherValues = tmp;
+        }
+
+        System.arraycopy(values, 0, array, from, length);
+    }
+
+    /*
+     * Turns the digit counts into the first position of each digit, returns false when all the values share the same
+     * digit and the pass can be skipped.
+     */
+    private static boolean toPositions(final int[] counts, final int length) {
+        var position = 0;
+        for (int d = 0; RADIX > d; ++d) {
+            final var count = counts[d];
+
+            if (length == count) {
+                return false;
+            }
+
+            counts[d] = position;
+            position += count;
+        }
+
+        return true;
+    }
+
+    private static final class Holder {
+        private static final RadixSort INSTANCE = new RadixSort();
+    }
+}
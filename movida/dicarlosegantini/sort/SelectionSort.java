@@ -38,16 +38,10 @@ import java.util.Comparator;
  * <p>
  */
 public final class SelectionSort implements ISort {
-    private static SelectionSort instance = null;
-
     private SelectionSort() {}
 
     public static SelectionSort getInstance() {
-        if (null == instance) {
-            instance = new SelectionSort();
-        }
-
-        return instance;
+        return Holder.INSTANCE;
     }
 
     @Override
@@ -70,4 +64,8 @@ public final class SelectionSort implements ISort {
             array[minIndex] = tmp;
         }
     }
+
+    private static final class Holder {
+        private static final SelectionSort INSTANCE = new SelectionSort();
+    }
 }
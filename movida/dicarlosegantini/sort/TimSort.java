@@ -0,0 +1,586 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2020 - Davide Di Carlo, Andrea Segantini
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package movida.dicarlosegantini.sort;
+
+import java.util.Comparator;
+
+/**
+ * Sorting algorithm: Timsort.
+ * Stable and adaptive: the range is split in natural runs (strictly descending runs are reversed), short runs are
+ * extended with binary insertion sort, then the runs are merged. While merging, when one run keeps winning the
+ * comparisons the merge switches to galloping, copying whole blocks found with an exponential search.
+ * Nearly sorted ranges are sorted with about n comparisons.
+ * <p>
+ * <pre>
+ * Time complexity: O(n*log(n)) in the worst case, O(n) on already sorted or reversed ranges.
+ * Space complexity: O(n) -> the merge buffer holds at most half of the range.
+ * </pre>
+ * <p>
+ */
+public final class TimSort implements ISort {
+    // Ranges shorter than this are sorted with binary insertion sort only.
+    private static final int MIN_MERGE = 32;
+    // Number of consecutive wins of the same run needed to start galloping.
+    private static final int MIN_GALLOP = 7;
+    // Enough for any int length, given the invariants kept on the lengths of the runs on the stack.
+    private static final int MAX_RUNS = 49;
+
+    private TimSort() {}
+
+    public static TimSort getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /*
+     * Returns the length of the run starting at from, reversing it if it's strictly descending.
+     */
+    private static <T> int countRunAndMakeAscending(T[] array, final int from, final int to,
+                                                    final Comparator<T> comparator) {
+        var runEnd = from + 1;
+
+        if (runEnd == to) {
+            return 1;
+        }
+
+        if (0 > comparator.compare(array[runEnd++], array[from])) {
+            while (runEnd < to && 0 > comparator.compare(array[runEnd], array[runEnd - 1])) {
+                runEnd += 1;
+            }
+
+            for (int i = from, j = runEnd - 1; i < j; ++i, --j) {
+                final var tmp = array[i];
+                array[i] = array[j];
+                array[j] = tmp;
+            }
+        } else {
+            while (runEnd < to && 0 <= comparator.compare(array[runEnd], array[runEnd - 1])) {
+                runEnd += 1;
+            }
+        }
+
+        return runEnd - from;
+    }
+
+    /*
+     * Returns the minimum length of a run: a value in [MIN_MERGE / 2, MIN_MERGE] such that length / minRun is a
+     * power of two, or slightly less, so that the final merges are balanced.
+     */
+    private static int minRunLength(int length) {
+        var remainder = 0;
+
+        while (MIN_MERGE <= length) {
+            remainder |= length & 1;
+            length >>= 1;
+        }
+
+        return length + remainder;
+    }
+
+    /*
+     * Returns the position where key goes in the sorted range array[base, base + length), before the items equal
+     * to it. The search starts from base + hint, moving with exponential steps before the binary search.
+     */
+    private static <T> int gallopLeft(final T key, final T[] array, final int base, final int length, final int hint,
+                                      final Comparator<T> comparator) {
+        var lastOffset = 0;
+        var offset = 1;
+
+        if (0 < comparator.compare(key, array[base + hint])) {
+            final var maxOffset = length - hint;
+
+            while (offset < maxOffset && 0 < comparator.compare(key, array[base + hint + offset])) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                // overflow
+                if (0 >= offset) {
+                    offset = maxOffset;
+                }
+            }
+
+            offset = Math.min(offset, maxOffset);
+            lastOffset += hint;
+            offset += hint;
+        } else {
+            final var maxOffset = hint + 1;
+
+            while (offset < maxOffset && 0 >= comparator.compare(key, array[base + hint - offset])) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                // overflow
+                if (0 >= offset) {
+                    offset = maxOffset;
+                }
+            }
+
+            offset = Math.min(offset, maxOffset);
+            final var tmp = lastOffset;
+            lastOffset = hint - offset;
+            offset = hint - tmp;
+        }
+
+        // array[base + lastOffset] < key <= array[base + offset]
+        lastOffset += 1;
+        while (lastOffset < offset) {
+            final var middle = (lastOffset + offset) >>> 1;
+
+            if (0 < comparator.compare(key, array[base + middle])) {
+                lastOffset = middle + 1;
+            } else {
+                offset = middle;
+            }
+        }
+
+        return offset;
+    }
+
+    /*
+     * Like gallopLeft, but key goes after the items equal to it.
+     */
+    private static <T> int gallopRight(final T key, final T[] array, final int base, final int length, final int hint,
+                                       final Comparator<T> comparator) {
+        var lastOffset = 0;
+        var offset = 1;
+
+        if (0 > comparator.compare(key, array[base + hint])) {
+            final var maxOffset = hint + 1;
+
+            while (offset < maxOffset && 0 > comparator.compare(key, array[base + hint - offset])) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                // overflow
+                if (0 >= offset) {
+                    offset = maxOffset;
+                }
+            }
+
+            offset = Math.min(offset, maxOffset);
+            final var tmp = lastOffset;
+            lastOffset = hint - offset;
+            offset = hint - tmp;
+        } else {
+            final var maxOffset = length - hint;
+
+            while (offset < maxOffset && 0 <= comparator.compare(key, array[base + hint + offset])) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                // overflow
+                if (0 >= offset) {
+                    offset = maxOffset;
+                }
+            }
+
+            offset = Math.min(offset, maxOffset);
+            lastOffset += hint;
+            offset += hint;
+        }
+
+        // array[base + lastOffset] <= key < array[base + offset]
+        lastOffset += 1;
+        while (lastOffset < offset) {
+            final var middle = (lastOffset + offset) >>> 1;
+
+            if (0 > comparator.compare(key, array[base + middle])) {
+                offset = middle;
+            } else {
+                lastOffset = middle + 1;
+            }
+        }
+
+        return offset;
+    }
+
+    @Override
+    public <T> void sort(T[] array, int from, final int to, final Comparator<T> comparator) {
+        assert 0 <= from;
+        assert from <= to;
+        assert to <= array.length;
+
+        var remaining = to - from;
+
+        if (2 > remaining) {
+            return;
+        }
+
+        if (MIN_MERGE > remaining) {
+            final var runLength = countRunAndMakeAscending(array, from, to, comparator);
+            InsertionSort.binaryInsertionSort(array, from, to, from + runLength, comparator);
+            return;
+        }
+
+        final var merger = new Merger<>(array, remaining, comparator);
+        final var minRun = minRunLength(remaining);
+
+        do {
+            var runLength = countRunAndMakeAscending(array, from, to, comparator);
+
+            if (runLength < minRun) {
+                final var forced = Math.min(remaining, minRun);
+                InsertionSort.binaryInsertionSort(array, from, from + forced, from + runLength, comparator);
+                runLength = forced;
+            }
+
+            merger.pushRun(from, runLength);
+            merger.mergeCollapse();
+
+            from += runLength;
+            remaining -= runLength;
+        } while (0 != remaining);
+
+        merger.mergeForceCollapse();
+    }
+
+    /*
+     * State of a single sort: the stack of the pending runs and the merge buffer.
+     */
+    private static final class Merger<T> {
+        private final T[] array;
+        private final int length;
+        private final Comparator<T> comparator;
+        private final int[] runBase;
+        private final int[] runLength;
+        private int runs;
+        private int minGallop;
+        private T[] buffer;
+
+        @SuppressWarnings("unchecked")
+        Merger(final T[] array, final int length, final Comparator<T> comparator) {
+            this.array = array;
+            this.length = length;
+            this.comparator = comparator;
+            this.runBase = new int[MAX_RUNS];
+            this.runLength = new int[MAX_RUNS];
+            this.runs = 0;
+            this.minGallop = MIN_GALLOP;
+            this.buffer = (T[]) new Object[Math.min(256, length >>> 1)];
+        }
+
+        void pushRun(final int base, final int length) {
+            this.runBase[this.runs] = base;
+            this.runLength[this.runs] = length;
+            this.runs += 1;
+        }
+
+        /*
+         * Merges the runs on top of the stack until, for every three consecutive runs X, Y, Z (Z on top):
+         * len(X) > len(Y) + len(Z) and len(Y) > len(Z).
+         * Merging balanced runs keeps the total cost at O(n*log(n)), while the stack stays O(log(n)) deep.
+         */
+        void mergeCollapse() {
+            final var lengths = this.runLength;
+
+            while (1 < this.runs) {
+                var n = this.runs - 2;
+
+                if ((0 < n && lengths[n - 1] <= lengths[n] + lengths[n + 1]) ||
+                        (1 < n && lengths[n - 2] <= lengths[n] + lengths[n - 1])) {
+                    if (lengths[n - 1] < lengths[n + 1]) {
+                        n -= 1;
+                    }
+                } else if (lengths[n] > lengths[n + 1]) {
+                    break;
+                }
+
+                this.mergeAt(n);
+            }
+        }
+
+        void mergeForceCollapse() {
+            while (1 < this.runs) {
+                var n = this.runs - 2;
+
+                if (0 < n && this.runLength[n - 1] < this.runLength[n + 1]) {
+                    n -= 1;
+                }
+
+                this.mergeAt(n);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private T[] ensureBuffer(final int minCapacity) {
+            if (this.buffer.length < minCapacity) {
+                // Doubling, but never more than half of the range, which is the biggest possible merge.
+                final var newCapacity = Math.min(Integer.highestOneBit(minCapacity) << 1, this.length >>> 1);
+                this.buffer = (T[]) new Object[Math.max(minCapacity, newCapacity)];
+            }
+
+            return this.buffer;
+        }
+
+        /*
+         * Merges the runs at index i and i + 1 of the stack.
+         */
+        private void mergeAt(final int i) {
+            var base1 = this.runBase[i];
+            var length1 = this.runLength[i];
+            final var base2 = this.runBase[i + 1];
+            var length2 = this.runLength[i + 1];
+
+            this.runLength[i] = length1 + length2;
+            if (i == this.runs - 3) {
+                this.runBase[i + 1] = this.runBase[i + 2];
+                this.runLength[i + 1] = this.runLength[i + 2];
+            }
+            this.runs -= 1;
+
+            // The items of the first run smaller than the first of the second run are already in place.
+            final var skip = gallopRight(this.array[base2], this.array, base1, length1, 0, this.comparator);
+            base1 += skip;
+            length1 -= skip;
+            if (0 == length1) {
+                return;
+            }
+
+            // The items of the second run greater than the last of the first run are already in place.
+            length2 = gallopLeft(this.array[base1 + length1 - 1], this.array, base2, length2, length2 - 1,
+                    this.comparator);
+            if (0 == length2) {
+                return;
+            }
+
+            if (length1 <= length2) {
+                this.mergeLow(base1, length1, base2, length2);
+            } else {
+                this.mergeHigh(base1, length1, base2, length2);
+            }
+        }
+
+        /*
+         * Merges from the left, copying the first (shorter) run in the buffer.
+         * array[base2] goes before the whole first run, and the last item of the first run goes after the whole
+         * second run.
+         */
+        private void mergeLow(final int base1, int length1, final int base2, int length2) {
+            final var array = this.array;
+            final var buffer = this.ensureBuffer(length1);
+            final var comparator = this.comparator;
+            System.arraycopy(array, base1, buffer, 0, length1);
+
+            var cursor1 = 0;
+            var cursor2 = base2;
+            var destination = base1;
+
+            array[destination++] = array[cursor2++];
+            if (0 == --length2) {
+                System.arraycopy(buffer, cursor1, array, destination, length1);
+                return;
+            }
+            if (1 == length1) {
+                System.arraycopy(array, cursor2, array, destination, length2);
+                array[destination + length2] = buffer[cursor1];
+                return;
+            }
+
+            var minGallop = this.minGallop;
+
+            outer:
+            while (true) {
+                // How many times in a row each run has won.
+                var count1 = 0;
+                var count2 = 0;
+
+                do {
+                    if (0 > comparator.compare(array[cursor2], buffer[cursor1])) {
+                        array[destination++] = array[cursor2++];
+                        count2 += 1;
+                        count1 = 0;
+                        if (0 == --length2) {
+                            break outer;
+                        }
+                    } else {
+                        array[destination++] = buffer[cursor1++];
+                        count1 += 1;
+                        count2 = 0;
+                        if (1 == --length1) {
+                            break outer;
+                        }
+                    }
+                } while (minGallop > (count1 | count2));
+
+                // Galloping, until it stops paying off.
+                do {
+                    count1 = gallopRight(array[cursor2], buffer, cursor1, length1, 0, comparator);
+                    if (0 != count1) {
+                        System.arraycopy(buffer, cursor1, array, destination, count1);
+                        destination += count1;
+                        cursor1 += count1;
+                        length1 -= count1;
+                        if (1 >= length1) {
+                            break outer;
+                        }
+                    }
+                    array[destination++] = array[cursor2++];
+                    if (0 == --length2) {
+                        break outer;
+                    }
+
+                    count2 = gallopLeft(buffer[cursor1], array, cursor2, length2, 0, comparator);
+                    if (0 != count2) {
+                        System.arraycopy(array, cursor2, array, destination, count2);
+                        destination += count2;
+                        cursor2 += count2;
+                        length2 -= count2;
+                        if (0 == length2) {
+                            break outer;
+                        }
+                    }
+                    array[destination++] = buffer[cursor1++];
+                    if (1 == --length1) {
+                        break outer;
+                    }
+
+                    minGallop -= 1;
+                } while (MIN_GALLOP <= count1 || MIN_GALLOP <= count2);
+
+                // Galloping is penalized for leaving it.
+                minGallop = Math.max(0, minGallop) + 2;
+            }
+
+            this.minGallop = Math.max(1, minGallop);
+
+            if (1 == length1) {
+                System.arraycopy(array, cursor2, array, destination, length2);
+                array[destination + length2] = buffer[cursor1];
+            } else if (0 == length1) {
+                throw new IllegalArgumentException("Comparison method violates its general contract!");
+            } else {
+                System.arraycopy(buffer, cursor1, array, destination, length1);
+            }
+        }
+
+        /*
+         * Merges from the right, copying the second (shorter) run in the buffer.
+         * Symmetric to mergeLow.
+         */
+        private void mergeHigh(final int base1, int length1, final int base2, int length2) {
+            final var array = this.array;
+            final var buffer = this.ensureBuffer(length2);
+            final var comparator = this.comparator;
+            System.arraycopy(array, base2, buffer, 0, length2);
+
+            var cursor1 = base1 + length1 - 1;
+            var cursor2 = length2 - 1;
+            var destination = base2 + length2 - 1;
+
+            array[destination--] = array[cursor1--];
+            if (0 == --length1) {
+                System.arraycopy(buffer, 0, array, destination - (length2 - 1), length2);
+                return;
+            }
+            if (1 == length2) {
+                destination -= length1;
+                cursor1 -= length1;
+                System.arraycopy(array, cursor1 + 1, array, destination + 1, length1);
+                array[destination] = buffer[cursor2];
+                return;
+            }
+
+            var minGallop = this.minGallop;
+
+            outer:
+            while (true) {
+                // How many times in a row each run has won.
+                var count1 = 0;
+                var count2 = 0;
+
+                do {
+                    if (0 > comparator.compare(buffer[cursor2], array[cursor1])) {
+                        array[destination--] = array[cursor1--];
+                        count1 += 1;
+                        count2 = 0;
+                        if (0 == --length1) {
+                            break outer;
+                        }
+                    } else {
+                        array[destination--] = buffer[cursor2--];
+                        count2 += 1;
+                        count1 = 0;
+                        if (1 == --length2) {
+                            break outer;
+                        }
+                    }
+                } while (minGallop > (count1 | count2));
+
+                // Galloping, until it stops paying off.
+                do {
+                    count1 = length1 - gallopRight(buffer[cursor2], array, base1, length1, length1 - 1, comparator);
+                    if (0 != count1) {
+                        destination -= count1;
+                        cursor1 -= count1;
+                        length1 -= count1;
+                        System.arraycopy(array, cursor1 + 1, array, destination + 1, count1);
+                        if (0 == length1) {
+                            break outer;
+                        }
+                    }
+                    array[destination--] = buffer[cursor2--];
+                    if (1 == --length2) {
+                        break outer;
+                    }
+
+                    count2 = length2 - gallopLeft(array[cursor1], buffer, 0, length2, length2 - 1, comparator);
+                    if (0 != count2) {
+                        destination -= count2;
+                        cursor2 -= count2;
+                        length2 -= count2;
+                        System.arraycopy(buffer, cursor2 + 1, array, destination + 1, count2);
+                        if (1 >= length2) {
+                            break outer;
+                        }
+                    }
+                    array[destination--] = array[cursor1--];
+                    if (0 == --length1) {
+                        break outer;
+                    }
+
+                    minGallop -= 1;
+                } while (MIN_GALLOP <= count1 || MIN_GALLOP <= count2);
+
+                // Galloping is penalized for leaving it.
+                minGallop = Math.max(0, minGallop) + 2;
+            }
+
+            this.minGallop = Math.max(1, minGallop);
+
+            if (1 == length2) {
+                destination -= length1;
+                cursor1 -= length1;
+                System.arraycopy(array, cursor1 + 1, array, destination + 1, length1);
+                array[destination] = buffer[cursor2];
+            } else if (0 == length2) {
+                throw new IllegalArgumentException("Comparison method violates its general contract!");
+            } else {
+                System.arraycopy(buffer, 0, array, destination - (length2 - 1), length2);
+            }
+        }
+    }
+
+    private static final class Holder {
+        private static final TimSort INSTANCE = new TimSort();
+    }
+}